@@ -11,7 +11,6 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ChoiceDialog;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.GridPane;
@@ -22,28 +21,36 @@ import javafx.scene.shape.Circle;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import org.example.eiscuno.listener.MachinePlayListener;
-import org.example.eiscuno.model.Serializable.SerializableFileHandler;
+import org.example.eiscuno.model.Serializable.SaveSlotFileHandler;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
 import org.example.eiscuno.model.deck.Deck;
-import org.example.eiscuno.model.exceptions.EmptyDeck;
+import org.example.eiscuno.model.event.GameEventPublisher;
 import org.example.eiscuno.model.exceptions.NonPlayableCard;
+import org.example.eiscuno.model.game.GameActor;
+import org.example.eiscuno.model.game.GameRuntime;
+import org.example.eiscuno.model.game.GameSnapshot;
 import org.example.eiscuno.model.game.GameStateEnum;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.PlayabilityTable;
 import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.game.UnoCallEnforcer;
 import org.example.eiscuno.model.gameState.GameState;
-import org.example.eiscuno.model.machine.ThreadCurrentColorMachine;
+import org.example.eiscuno.model.gameState.GameStatePersister;
 import org.example.eiscuno.model.machine.ThreadPlayMachine;
-import org.example.eiscuno.model.machine.ThreadSingUnoMachine;
 import org.example.eiscuno.model.planeTextFiles.PlaneTextFileHandler;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.unoenum.ImageRegistry;
 import org.example.eiscuno.view.WelcomeStage;
 import org.example.eiscuno.view.drawers.ShapeDrawer;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for managing the main Uno game scene.
@@ -109,22 +116,24 @@ public class GameUnoController {
     private GameUno gameUno;
     /** Current starting index of the visible set of cards displayed to the player. */
     private int posInitCardToShow;
-    /** Tracks the currently active color on the table (updated dynamically). */
-    private String currentColor;
     // =============================
     // ========  THREADING  ========
     // =============================
 
-    /** Background thread responsible for controlling machine (AI) moves. */
+    /** Owns every background task of the current game; shutting it down stops them all. */
+    private GameRuntime gameRuntime;
+    /** Single writer of the current game: every move is submitted to it as a command. */
+    private GameActor gameActor;
+    /** Whether the end of the game was already shown. */
+    private boolean gameOverShown;
+    /** The snapshot currently shown on screen; only touched on the FX thread. */
+    private GameSnapshot renderedSnapshot;
+    /** Collects the events of the game and applies them to the scene once per FX pulse. */
+    private final UiEventBus uiEventBus = new UiEventBus(Platform::runLater, this::onUiEvents);
+    /** Background task responsible for controlling machine (AI) moves. */
     private ThreadPlayMachine threadPlayMachine;
-    /** Runnable controlling logic for handling "UNO" declarations from the player. */
-    private ThreadSingUnoMachine  threadSingUnoMachine;
-    /** Runnable that continuously monitors and updates the currently active color in the game. */
-    private ThreadCurrentColorMachine threadCurrentColorMachine;
-    /** Thread instance managing the asynchronous execution of the UNO declaration logic. */
-    private Thread threadSingUno;
-    /** Thread instance managing asynchronous execution of color monitoring logic. */
-    private Thread threadCurrentColor;
+    /** Penalizes the players that do not call "UNO" in time, on a shared timer. */
+    private UnoCallEnforcer unoCallEnforcer;
     // =============================
     // =======  GAME STATE  ========
     // =============================
@@ -136,7 +145,9 @@ public class GameUnoController {
     /** Indicates whether the player is continuing a previously saved game session. */
     private Boolean isContinue;
     /** Handles serialization and deserialization of the game state for saving/loading. */
-    private SerializableFileHandler serializableFileHandler;
+    private SaveSlotFileHandler serializableFileHandler;
+    /** Writes the saves of the current game in the background. */
+    private GameStatePersister gameStatePersister;
     /** Utility class for reading and writing plain text data, such as player information. */
     private PlaneTextFileHandler planeTextFileHandler;
     /** Helper class for dynamically drawing shapes (icons for player and machine turns). */
@@ -151,43 +162,78 @@ public class GameUnoController {
         //initVariables();
         isContinue = WelcomeStage.getInstance().getWelcomeStageController().returnIsContinue();
         WelcomeStage.deleteInstance();
-        serializableFileHandler = new SerializableFileHandler();
+        serializableFileHandler = new SaveSlotFileHandler();
         planeTextFileHandler = new PlaneTextFileHandler();
+        deckImageView.setImage(ImageRegistry.getImage(EISCUnoEnum.DECK_OF_CARDS));
 
         if(!isContinue){
             try {
                 initVariables();
                 this.gameUno.startGame();
-                threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this.gameUno, this.humanPlayer);
-                threadPlayMachine.start();
-
-                threadSingUnoMachine = new ThreadSingUnoMachine(this.humanPlayer, this.gameUno);
-                threadSingUno = new Thread(threadSingUnoMachine);
-                threadSingUno.setDaemon(true);
-                threadSingUno.start();
             }catch (Exception e){
                 showError(errorLabel, e.getMessage());
+                return;
             }
-
-            threadCurrentColorMachine = new ThreadCurrentColorMachine(this.gameUno, this.table);
-            threadCurrentColor = new Thread(threadCurrentColorMachine);
-            threadCurrentColor.setDaemon(true);
-            threadCurrentColor.start();
-
-            setUnoListener();
-            setGameOverListener();
-            setCurrentColorListener();
-
-            setMachineListener();
-            showUnoButton();
-            refreshUI();
-
+            beginGame();
         }
         else{
             loadGameState();
         }
     }
 
+    /**
+     * Starts the background work of the game that was just dealt or loaded, then wires
+     * the scene to it and shows it. The runtime is started first, so the listeners are
+     * never wired to a missing actor or enforcer.
+     */
+    private void beginGame() {
+        startGameRuntime();
+
+        setUnoListener();
+        setSnapshotListener();
+        setCurrentColorListener();
+        setCardPlacedListener();
+        setMachineListener();
+        refreshUI();
+        showUnoButton();
+    }
+
+    /**
+     * Starts the background work of the current game in a new {@link GameRuntime}: the
+     * {@link GameActor} that applies every move, the machine player and the UNO-call enforcer. The runtime of a previous game, if any,
+     * is shut down first so none of its tasks survive the restart; its resources are
+     * closed in the background, so the FX thread never waits for its last save. The game's
+     * {@link GameEventPublisher} and {@link GameStatePersister} are owned by the runtime
+     * too, so subscribers are completed and the last save is written when the game ends,
+     * after which the save file is released by the {@link SaveSlotFileHandler}.
+     * The persister records every move of the game, so a save only appends them to its
+     * journal.
+     */
+    private void startGameRuntime() {
+        if (gameRuntime != null) {
+            gameRuntime.shutdownAsync();
+        }
+        gameRuntime = new GameRuntime();
+        renderedSnapshot = null;
+        gameRuntime.setErrorListener(error -> Platform.runLater(() -> showError(errorLabel, error.getMessage())));
+        gameUno.setEventPublisher(gameRuntime.own(new GameEventPublisher()));
+        // Released after the persister is closed: resources are closed in reverse order
+        gameRuntime.own(() -> serializableFileHandler.release("GameState.ser"));
+        gameStatePersister = gameRuntime.own(new GameStatePersister(serializableFileHandler, "GameState.ser"));
+        gameUno.setMoveListener(gameStatePersister.getMoveListener());
+        gameActor = new GameActor(this.gameUno, gameRuntime.executor());
+
+        unoCallEnforcer = gameRuntime.own(new UnoCallEnforcer(gameActor));
+        unoCallEnforcer.watch(this.humanPlayer);
+        unoCallEnforcer.watch(this.machinePlayer);
+
+        threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.gameUno, this.humanPlayer);
+        threadPlayMachine.setUnoCallEnforcer(unoCallEnforcer);
+        threadPlayMachine.setGameActor(gameActor);
+        threadPlayMachine.setGameStatePersister(gameStatePersister);
+        gameRuntime.start(threadPlayMachine);
+    }
+
     /**
      * Initializes the variables for the game.
      */
@@ -202,88 +248,82 @@ public class GameUnoController {
     }
 
     /**
-     * Prints the human player's cards on the grid pane.
+     * Prints the human player's cards on the grid pane, from the given snapshot of the game.
+     *
+     * @param snapshot the state to render
      */
-    private void printCardsHumanPlayer() {
+    private void printCardsHumanPlayer(GameSnapshot snapshot) {
         this.gridPaneCardsPlayer.getChildren().clear();
-        Card[] currentVisibleCardsHumanPlayer = this.gameUno.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
-        Card currentCardOnTable = null;
 
-        //Controlando excepción
-        try {
-            currentCardOnTable = this.table.getCurrentCardOnTheTable();
-            tableImageView.setImage(currentCardOnTable.getImage());
-        } catch (IndexOutOfBoundsException e) {
+        if (snapshot.getTopCardId() != CardId.NONE) {
+            tableImageView.setImage(Card.of(snapshot.getTopCardId()).getImage());
+        } else {
             System.out.println("Mesa vacía...");
         }
 
-        for (int i = 0; i < currentVisibleCardsHumanPlayer.length; i++) {
-            Card card = currentVisibleCardsHumanPlayer[i];
-            ImageView cardImageView = card.getCard();
-            Card finalCurrentCardOnTable = currentCardOnTable;
-            cardImageView.setOnMouseClicked((MouseEvent event) -> {
-                try {
-                    boolean isPlayable = gameUno.isCardPlayable(card, finalCurrentCardOnTable);
-                    if (!isPlayable) {
-                        throw new NonPlayableCard("¡Carta inválida!");
-                    }
-                    if (gameUno.getTurn() == TurnEnum.PLAYER
-                            && gameUno.isGameOver() == GameStateEnum.GAME_ONGOING) {
-                        String color = "";
-                        // Aplicar efecto si es una carta especial
-                        Player targetPlayer = machinePlayer;
-                        if (card.getValue().equals("NEWCOLOR") || card.getValue().equals("EAT4")) {
-                            color = askColor();
-                        }
-                        if (card.getEffect() != null) {
-                            card.applyEffect(card.new CardEffectContext(gameUno, targetPlayer, color));
-                        } else {
-                            gameUno.changeTurn();
-                            System.out.println("Turn: " + gameUno.getTurn());
-                        }
-                        gameUno.playCard(card);
-                        saveGameState();
-                        tableImageView.setImage(card.getImage());
-                        humanPlayer.removeCard(findPosCardsHumanPlayer(card));
-                        showUnoButton();
-
-                        if (gameUno.isGameOver() != GameStateEnum.GAME_ONGOING) {
-                            threadPlayMachine.stopThread();
-                            threadPlayMachine.interrupt();
-
-                            threadSingUnoMachine.stopThread();
-                            threadSingUno.interrupt();
-
-                            threadCurrentColorMachine.stopThread();
-                            threadCurrentColor.interrupt();
-
-                            gameHasEndedAlert();
-                        }
-
-                    }
-                }catch (NonPlayableCard e) {
-                    showError(errorLabel, e.getMessage());
-                }
-                refreshUI();
-            });
+        int numVisibleCards = Math.max(0, Math.min(4, snapshot.getHumanHandSize() - this.posInitCardToShow));
+        for (int i = 0; i < numVisibleCards; i++) {
+            Card card = Card.of(snapshot.getHumanCardId(this.posInitCardToShow + i));
+            ImageView cardImageView = ImageRegistry.createCardImageView(card.getAsset());
+            cardImageView.setOnMouseClicked((MouseEvent event) -> playHumanCard(card));
             this.gridPaneCardsPlayer.add(cardImageView, i, 0);
         }
 
     }
 
+    /**
+     * Plays a card of the human player. The card is checked against the latest snapshot
+     * on the FX thread, then the move is submitted to the {@link GameActor}, which checks
+     * it again against the live game before applying it. The move is committed on the
+     * move number of the snapshot, so a second click, or a click on a stale snapshot,
+     * is rejected before it changes anything. The UI is refreshed when the resulting
+     * snapshot is published.
+     *
+     * @param card the card clicked by the player
+     */
+    private void playHumanCard(Card card) {
+        try {
+            GameSnapshot snapshot = gameActor.getSnapshot();
+            boolean isPlayable = gameUno.isCardPlayable(card.getId(), snapshot.getTopCardId(), snapshot.getCurrentColor());
+            if (!isPlayable) {
+                throw new NonPlayableCard("¡Carta inválida!");
+            }
+            if (snapshot.getTurn() == TurnEnum.PLAYER && snapshot.isOngoing()) {
+                // Aplicar efecto si es una carta especial
+                CardColor color = card.getValue().isWild() ? askColor() : null;
+                Player targetPlayer = machinePlayer;
+                long expectedMove = snapshot.getMoveNumber();
+                gameActor.submit(game -> {
+                    if (game.isGameOver() != GameStateEnum.GAME_ONGOING
+                            || !humanPlayer.getCardsPlayer().contains(card)
+                            || !game.tryCommitMove(expectedMove, TurnEnum.PLAYER, card.getEffectKind().passesTurn())) {
+                        return;
+                    }
+                    game.applyCardEffect(card, targetPlayer, color);
+                    System.out.println("Turn: " + game.getTurn());
+                    game.playCard(card);
+                    humanPlayer.removeCard(card);
+                    saveGameState();
+                });
+            }
+        } catch (NonPlayableCard e) {
+            showError(errorLabel, e.getMessage());
+        }
+    }
+
     /**
 
      * Shows a mini windows asking for the color to change
      * @return the new color
      * Displays a dialog window to ask for a color change for color changing cards.
      */
-    public String askColor (){
+    public CardColor askColor (){
         while (true) {
-            ChoiceDialog<String> dialog = new ChoiceDialog<>("GREEN", List.of("GREEN", "YELLOW", "BLUE", "RED"));
+            ChoiceDialog<CardColor> dialog = new ChoiceDialog<>(CardColor.GREEN, CardColor.choosable());
             dialog.setTitle("Cambio de color");
             dialog.setHeaderText("Elige un nuevo color");
             dialog.setContentText("Color:");
-            Optional<String> result = dialog.showAndWait();
+            Optional<CardColor> result = dialog.showAndWait();
             if (result.isPresent()) {
                 return result.get();
             }
@@ -291,35 +331,43 @@ public class GameUnoController {
     }
 
     /**
-     * Refreshes UI components (cards, UNO button, labels).
+     * Refreshes UI components (cards, UNO button, labels) from the latest snapshot of the
+     * game. Cards and labels are only rebuilt if the snapshot shows something different
+     * from the one already on screen, so snapshots published by commands that change
+     * nothing visible, like saving the game, cost no frame.
      */
     private void refreshUI() {
-        printCardsHumanPlayer();
-        printCardsMachinePlayer();
-        updateLabels();
+        GameSnapshot snapshot = gameActor.getSnapshot();
+        if (renderedSnapshot == null || !snapshot.hasSameViewAs(renderedSnapshot)) {
+            renderedSnapshot = snapshot;
+            printCardsHumanPlayer(snapshot);
+            printCardsMachinePlayer(snapshot);
+            updateLabels(snapshot);
+        }
         showUnoButton();
     }
 
     /**
      * Refreshes UI labels displaying the current player's turn and the current playable color.
+     *
+     * @param snapshot the state to render
      */
-    public void updateLabels(){
-        String color = table.getCurrentCardOnTheTable().getColor();
-        color = switch (color) {
-            case "GREEN" -> "#379711";
-            case "YELLOW" -> "#ECD407";
-            case "RED" -> "#D72600";
-            case "BLUE" -> "#0956BF";
+    public void updateLabels(GameSnapshot snapshot){
+        String color = switch (snapshot.getCurrentColor()) {
+            case GREEN -> "#379711";
+            case YELLOW -> "#ECD407";
+            case RED -> "#D72600";
+            case BLUE -> "#0956BF";
             default -> "#8a08fc";
         };
 
         colorCircle.setFill(Color.web(color));
         turnHBox.getChildren().clear();
         Group turnGroup = null;
-        if(gameUno.getTurn() == TurnEnum.PLAYER){
+        if(snapshot.getTurn() == TurnEnum.PLAYER){
             turnLabel.setText("Turno: " + nickname );
             turnGroup = shapeDrawer.drawPerson();
-        }else if(gameUno.getTurn() == TurnEnum.MACHINE){
+        }else if(snapshot.getTurn() == TurnEnum.MACHINE){
             turnLabel.setText("Turno: Máquina");
             turnGroup = shapeDrawer.drawRobot();
         }
@@ -328,36 +376,26 @@ public class GameUnoController {
 
     /**
      * Prints the cards of the machine (face down).
+     *
+     * @param snapshot the state to render
      */
-    private void printCardsMachinePlayer(){
+    private void printCardsMachinePlayer(GameSnapshot snapshot){
         this.gridPaneCardsMachine.getChildren().clear();
-        int maxCards = Math.min(this.machinePlayer.getCardsPlayer().size(), 4);
+        int maxCards = Math.min(snapshot.getMachineHandSize(), 4);
 
         for(int i=0; i < maxCards; i++) {
-            ImageView backCardUno = new ImageView(EISCUnoEnum.CARD_UNO.getFilePath());
-            backCardUno.setY(16);
-            backCardUno.setFitHeight(90);
-            backCardUno.setFitWidth(60);
-
+            ImageView backCardUno = ImageRegistry.createCardImageView(EISCUnoEnum.CARD_UNO);
             this.gridPaneCardsMachine.add(backCardUno, i, 0);
         }
     }
 
     /**
-     * Notifies the controller if the uno button should appear or disappear and if his functionality should work because
-     * 1) The machine sang uno
-     * 2) The player sang uno
-     * 3) The player no longer has one card
+     * Notifies the controller when a player forgot to say "UNO" in time and drew a penalty card,
+     * so the uno button and the cards are refreshed.
      */
     private void setUnoListener(){
-        threadSingUnoMachine.setUnoEventListener(() -> {
-            Platform.runLater(() -> {
-                showUnoButton();
-                refreshUI();
-                showError(errorLabel, "¡Olvidaste decir UNO!");
-            });
-        });
-
+        unoCallEnforcer.setUnoEventListener(player -> uiEventBus.post(
+                player == humanPlayer ? UiEventEnum.HUMAN_FORGOT_UNO : UiEventEnum.MACHINE_FORGOT_UNO));
     }
 
     /**
@@ -369,15 +407,11 @@ public class GameUnoController {
         threadPlayMachine.setMachinePlayListener(new MachinePlayListener() {
             /**
              * Called when the machine draws a card because it had no playable moves.
-             * This action is performed on the JavaFX Application Thread to safely
-             * update the UI.
+             * The message is shown with the next batch of UI events.
              */
             @Override
             public void onMachineDrewCard() {
-                Platform.runLater(() -> {
-                    showError(errorLabel, "¡Máquina tomó una carta!");
-                    refreshUI();
-                });
+                uiEventBus.post(UiEventEnum.MACHINE_DREW_CARD);
             }
 
             /**
@@ -386,67 +420,72 @@ public class GameUnoController {
              */
             @Override
             public void onMachinePlayed() {
-                Platform.runLater(() -> {
-                    refreshUI();
-                    showUnoButton();
-                });
+                uiEventBus.post(UiEventEnum.MACHINE_PLAYED);
             }
 
         });
     }
 
     /**
-     * Notifies the controller if the game has ended in the turn of the machine (the machine played all his cards) or if the cards ran out
+     * Refreshes the UI every time the game publishes a new snapshot. The end of the game
+     * is shown by {@link #onUiEvents(Set)} once a snapshot reports it.
      */
-    private void setGameOverListener(){
-        threadPlayMachine.setGameOverListener(() -> {
-            Platform.runLater(() -> {
-                if(gameUno.isGameOver() != GameStateEnum.GAME_ONGOING){
-                    threadPlayMachine.stopThread();
-                    threadPlayMachine.interrupt();
-
-                    threadSingUnoMachine.stopThread();
-                    threadSingUno.interrupt();
-
-                    threadCurrentColorMachine.stopThread();
-                    threadCurrentColor.interrupt();
-
-                    gameHasEndedAlert();
-                }
-            });
-        });
-
-        deck.setGameOverListener(() -> {
-            if(gameUno.isGameOver() != GameStateEnum.GAME_ONGOING){
-                threadPlayMachine.stopThread();
-                threadPlayMachine.interrupt();
-
-                threadSingUnoMachine.stopThread();
-                threadSingUno.interrupt();
+    private void setSnapshotListener(){
+        gameActor.setSnapshotListener(snapshot -> uiEventBus.post(UiEventEnum.SNAPSHOT_PUBLISHED));
+    }
 
-                threadCurrentColorMachine.stopThread();
-                threadCurrentColor.interrupt();
+    /**
+     * Shows the new color when the game reports that it changed.
+     */
+    public void setCurrentColorListener(){
+        gameUno.addCurrentColorListener(() -> uiEventBus.post(UiEventEnum.COLOR_CHANGED));
+    }
 
-                deckImageView.setVisible(false);
-                gameHasEndedAlert();
-            }
-        });
+    /**
+     * Shows every card placed on the table, whichever player placed it.
+     */
+    private void setCardPlacedListener(){
+        table.addCardPlacedListener(card -> uiEventBus.post(UiEventEnum.CARD_PLACED));
     }
 
     /**
-     * Saves the new color if it changed
+     * Applies a batch of game events to the scene, on the FX thread. However many events
+     * arrived since the previous batch, the scene is rebuilt at most once, from the latest
+     * snapshot, and each message is shown once. Events raised inside a command, like a
+     * card placed or a color change, are rendered with the snapshot published after it. Shows the end of the game once the
+     * snapshot reports that it ended, whoever ended it: the human player, the machine or
+     * an empty deck.
+     *
+     * @param events the kinds of events posted since the previous batch
      */
-    public void setCurrentColorListener(){
-        threadCurrentColorMachine.setCurrentColorListener(() -> {
-            currentColor = gameUno.getCurrentColor();
-        });
+    private void onUiEvents(Set<UiEventEnum> events) {
+        refreshUI();
+        GameSnapshot snapshot = renderedSnapshot;
+
+        if (events.contains(UiEventEnum.HUMAN_FORGOT_UNO)) {
+            showError(errorLabel, "¡Olvidaste decir UNO!");
+        } else if (events.contains(UiEventEnum.MACHINE_FORGOT_UNO)) {
+            showError(errorLabel, "¡La máquina olvidó decir UNO!");
+        } else if (events.contains(UiEventEnum.MACHINE_DREW_CARD)) {
+            showError(errorLabel, "¡Máquina tomó una carta!");
+        }
+
+        if (!snapshot.isOngoing() && !gameOverShown) {
+            gameOverShown = true;
+            gameRuntime.shutdownAsync();
+            if (snapshot.getState() == GameStateEnum.DECK_EMPTY) {
+                deckImageView.setVisible(false);
+            }
+            gameHasEndedAlert(snapshot.getState());
+        }
     }
 
     /**
      * Shows a visual alert if the game has ended
+     *
+     * @param gameState how the game ended, as reported by the last snapshot
      */
-    private void gameHasEndedAlert() {
-        GameStateEnum gameState = gameUno.isGameOver();
+    private void gameHasEndedAlert(GameStateEnum gameState) {
 
         if (gameState != GameStateEnum.GAME_ONGOING) {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -470,7 +509,7 @@ public class GameUnoController {
             }
 
 
-        ImageView imageView = new ImageView(new Image(getClass().getResource("/org/example/eiscuno/favicon.png").toString()));
+        ImageView imageView = new ImageView(ImageRegistry.getImage(EISCUnoEnum.FAVICON));
         imageView.setFitWidth(64);
         imageView.setFitHeight(64);
         alert.setGraphic(imageView);
@@ -486,11 +525,9 @@ public class GameUnoController {
      * Shows the uno button if the game is on going and the human player has one card left.
      */
     private void showUnoButton(){
-        if(humanPlayer.getCardsPlayer().size() > 1){
-            threadSingUnoMachine.setAlreadySangUno(false);
-        }
-        if(humanPlayer.getCardsPlayer().size() == 1 && !threadSingUnoMachine.getAlreadySangUno()
-            && gameUno.isGameOver() == GameStateEnum.GAME_ONGOING){
+        GameSnapshot snapshot = renderedSnapshot != null ? renderedSnapshot : gameActor.getSnapshot();
+        if(snapshot.getHumanHandSize() == 1 && !unoCallEnforcer.hasCalledUno(humanPlayer)
+            && snapshot.isOngoing()){
             System.out.println("Showing UNO BUTTON");
             unoButton.setVisible(true);
             //unoButton.setManaged(true);
@@ -508,21 +545,6 @@ public class GameUnoController {
 
     }
 
-    /**
-     * Finds the position of a specific card in the human player's hand.
-     *
-     * @param card the card to find
-     * @return the position of the card, or -1 if not found
-     */
-    private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
-            if (this.humanPlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Handles the "Back" button action to show the previous set of cards.
      *
@@ -532,7 +554,7 @@ public class GameUnoController {
     void onHandleBack(ActionEvent event) {
         if (this.posInitCardToShow > 0) {
             this.posInitCardToShow--;
-            printCardsHumanPlayer();
+            printCardsHumanPlayer(renderedSnapshot);
         }
     }
 
@@ -543,9 +565,9 @@ public class GameUnoController {
      */
     @FXML
     void onHandleNext(ActionEvent event) {
-        if (this.posInitCardToShow < this.humanPlayer.getCardsPlayer().size() - 4) {
+        if (this.posInitCardToShow < renderedSnapshot.getHumanHandSize() - 4) {
             this.posInitCardToShow++;
-            printCardsHumanPlayer();
+            printCardsHumanPlayer(renderedSnapshot);
         }
     }
 
@@ -556,27 +578,22 @@ public class GameUnoController {
      */
     @FXML
     void onHandleTakeCard(ActionEvent event) {
-        boolean areCardsPlayable = false;
-
-        for(int i=0; i < this.humanPlayer.getCardsPlayer().size(); i++) {
-            Card card = this.humanPlayer.getCardsPlayer().get(i);
-            if(gameUno.isCardPlayable(card, table.getCurrentCardOnTheTable())){
-                areCardsPlayable = true;
-                showError(errorLabel, "¡Aún tienes jugadas posibles!");
-                break;
-            }
+        GameSnapshot snapshot = gameActor.getSnapshot();
+        boolean areCardsPlayable = PlayabilityTable.playableCards(snapshot.getHumanHandMask(),
+                snapshot.getTopCardId(), snapshot.getCurrentColor()) != 0;
+        if(areCardsPlayable){
+            showError(errorLabel, "¡Aún tienes jugadas posibles!");
         }
-        if(!areCardsPlayable && gameUno.isGameOver() == GameStateEnum.GAME_ONGOING){
-            try {
-                gameUno.eatCard(humanPlayer, 1);
-            }catch (EmptyDeck e){
-                gameHasEndedAlert();
-            }
-            saveGameState();
-            showUnoButton();
-            printCardsHumanPlayer();
-            gameUno.changeTurn();
-            updateLabels();
+        if(!areCardsPlayable && snapshot.isOngoing()){
+            long expectedMove = snapshot.getMoveNumber();
+            gameActor.submit(game -> {
+                if (game.isGameOver() != GameStateEnum.GAME_ONGOING
+                        || !game.tryCommitMove(expectedMove, TurnEnum.PLAYER, true)) {
+                    return;
+                }
+                game.drawCards(humanPlayer, 1);
+                saveGameState();
+            });
         }
     }
 
@@ -589,22 +606,40 @@ public class GameUnoController {
     void onHandleUno(ActionEvent event) {
         System.out.println("Cantar UNO presionado");
         showError(errorLabel, "¡Gritaste UNO!");
-        threadSingUnoMachine.setAlreadySangUno(true);
-        saveGameState();
+        unoCallEnforcer.callUno(humanPlayer);
+        gameActor.submit(game -> saveGameState());
         showUnoButton();
     }
 
     /**
-     * Saves the current state of the game
+     * Saves the current state of the game. Must be called from a command of the
+     * {@link GameActor}, so the game does not change while it is captured; the moves
+     * made since the last save are appended to the file in the background by the
+     * {@link GameStatePersister}.
      */
     public void saveGameState(){
         System.out.println("Saving gameState...");
         this.gameState = new GameState(this.deck,this.gameUno,this.table,this.humanPlayer,this.machinePlayer);
-        serializableFileHandler.serialize("GameState.ser", gameState);
+        gameStatePersister.save(gameState);
     }
 
     /**
-     * Loads a saved state of the game
+     * Stops the current game: its background tasks are cancelled right away and its last
+     * save is written in the background. Called when the window is closed, which waits
+     * for the returned future instead of blocking the FX thread.
+     *
+     * @return a future completed once the last save was written
+     */
+    public CompletableFuture<Void> shutdown() {
+        if (gameRuntime == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return gameRuntime.shutdownAsync();
+    }
+
+    /**
+     * Loads a saved state of the game. A game saved as a move journal is rebuilt from its
+     * last snapshot by replaying the moves recorded after it.
      */
     public void loadGameState(){
         System.out.println("Loading gameState...");
@@ -618,30 +653,15 @@ public class GameUnoController {
             this.humanPlayer = gameState.getHumanPlayer();
             this.machinePlayer = gameState.getMachinePlayer();
 
-            Card cardOnTable = table.getCurrentCardOnTheTable();
-            if (cardOnTable != null) {
-                tableImageView.setImage(cardOnTable.getImage());
+            int cardOnTableId = table.getCurrentCardId();
+            if (cardOnTableId != CardId.NONE) {
+                tableImageView.setImage(Card.of(cardOnTableId).getImage());
             }
 
-            threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this.gameUno, this.humanPlayer);
-            threadPlayMachine.start();
-
-            threadSingUnoMachine = new ThreadSingUnoMachine(this.humanPlayer, this.gameUno);
-            threadSingUno = new Thread(threadSingUnoMachine);
-            threadSingUno.setDaemon(true);
-            threadSingUno.start();
-
-            threadCurrentColorMachine = new ThreadCurrentColorMachine(this.gameUno, this.table);
-            threadCurrentColor = new Thread(threadCurrentColorMachine);
-            threadCurrentColor.setDaemon(true);
-            threadCurrentColor.start();
-
-            setUnoListener();
-            setGameOverListener();
-            setCurrentColorListener();
-            refreshUI();
-            showUnoButton();
-
+            beginGame();
+        }
+        else{
+            showError(errorLabel, "No se pudo cargar la partida guardada.");
         }
     }
 
@@ -0,0 +1,81 @@
+package org.example.eiscuno.controller;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Class {@code UiEventBus}
+ * <p>
+ * Collects the game events posted between two JavaFX pulses and delivers them to the
+ * controller as a single batch. Model listeners run on the game's threads and only
+ * {@link #post(UiEventEnum)} an event: the first post schedules one delivery on the FX
+ * thread, and every event posted before that delivery runs joins the same batch. A
+ * machine move that places a card, changes the color and publishes a snapshot therefore
+ * costs one UI update instead of one per listener.
+ * </p>
+ *
+ * <p>Pending events are kept as a bit set in an {@link AtomicInteger}, so posting never
+ * locks or allocates.</p>
+ *
+ * @see UiEventEnum
+ */
+public final class UiEventBus {
+    /** The events of every kind, indexed by ordinal. */
+    private static final UiEventEnum[] EVENTS = UiEventEnum.values();
+
+    /** Executor running tasks on the FX thread, usually {@code Platform::runLater}. */
+    private final Executor fxExecutor;
+    /** Receives each batch of events on the FX thread. */
+    private final Consumer<Set<UiEventEnum>> handler;
+    /** Events posted since the last delivery, one bit per {@link UiEventEnum} ordinal. */
+    private final AtomicInteger pending = new AtomicInteger();
+    /** Set while a delivery is scheduled on the FX thread and has not started yet. */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Constructs a bus delivering its batches through the given executor.
+     *
+     * @param fxExecutor executor running tasks on the FX thread
+     * @param handler    receives each batch of events
+     */
+    public UiEventBus(Executor fxExecutor, Consumer<Set<UiEventEnum>> handler) {
+        this.fxExecutor = fxExecutor;
+        this.handler = handler;
+    }
+
+    /**
+     * Posts an event. It is delivered with every other event posted before the next
+     * delivery runs. Can be called from any thread.
+     *
+     * @param event the event to post
+     */
+    public void post(UiEventEnum event) {
+        pending.getAndAccumulate(1 << event.ordinal(), (events, bit) -> events | bit);
+        if (scheduled.compareAndSet(false, true)) {
+            fxExecutor.execute(this::deliver);
+        }
+    }
+
+    /**
+     * Delivers the pending events as one batch. The scheduled flag is cleared before the
+     * events are taken, so an event posted meanwhile is either part of this batch or
+     * schedules the next one.
+     */
+    private void deliver() {
+        scheduled.set(false);
+        int events = pending.getAndSet(0);
+        if (events == 0) {
+            return;
+        }
+        Set<UiEventEnum> batch = EnumSet.noneOf(UiEventEnum.class);
+        while (events != 0) {
+            batch.add(EVENTS[Integer.numberOfTrailingZeros(events)]);
+            events &= events - 1;
+        }
+        handler.accept(batch);
+    }
+}
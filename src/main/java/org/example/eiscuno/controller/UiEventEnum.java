@@ -0,0 +1,29 @@
+package org.example.eiscuno.controller;
+
+/**
+ * Enum {@code UiEventEnum}
+ * <p>
+ * The kinds of game events that require the game scene to be updated. They are posted to
+ * a {@link UiEventBus} from any thread and delivered to the controller in batches, one
+ * per JavaFX pulse; posting the same kind twice before the batch is delivered has the
+ * same effect as posting it once.
+ * </p>
+ *
+ * @see UiEventBus
+ */
+public enum UiEventEnum {
+    /** The game published a new snapshot: cards, turn and UNO button must be redrawn. */
+    SNAPSHOT_PUBLISHED,
+    /** A card was placed on the table. */
+    CARD_PLACED,
+    /** The current color of the game changed. */
+    COLOR_CHANGED,
+    /** The machine had no playable card and drew one. */
+    MACHINE_DREW_CARD,
+    /** The machine played a card. */
+    MACHINE_PLAYED,
+    /** The human player forgot to say "UNO" and drew a penalty card. */
+    HUMAN_FORGOT_UNO,
+    /** The machine forgot to say "UNO" and drew a penalty card. */
+    MACHINE_FORGOT_UNO
+}
@@ -65,7 +65,8 @@ public class WelcomeStageController {
     /**
      * Handles the "Continue" button click event.
      * <p>
-     * Attempts to resume a previous game session.
+     * Attempts to resume a previous game session, rebuilt by
+     * {@link GameUnoController#loadGameState()} from the saved snapshot and move journal.
      * @throws IOException If the saving files fail to load.
      */
     @FXML
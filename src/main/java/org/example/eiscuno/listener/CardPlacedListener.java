@@ -0,0 +1,22 @@
+package org.example.eiscuno.listener;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * Listener interface for tracking the cards placed on the table.
+ * <p>
+ * The table notifies its listeners synchronously, on the thread that placed the card,
+ * every time a card is added to it. Listeners that update the UI must hand the work
+ * over to the JavaFX Application Thread themselves.
+ * </p>
+ *
+ * @see org.example.eiscuno.model.table.Table#addCardPlacedListener(CardPlacedListener)
+ */
+public interface CardPlacedListener {
+    /**
+     * Notifies that a card was placed on top of the table.
+     *
+     * @param card the card now on top of the table
+     */
+    void onCardPlaced(Card card);
+}
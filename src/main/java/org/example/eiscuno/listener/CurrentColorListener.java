@@ -9,6 +9,10 @@ package org.example.eiscuno.listener;
  *     <li>A color-changing card (e.g., Wild or +4) is played.</li>
  *     <li>A card of a different color is placed on the table.</li>
  * </ul>
+ * It is called by the game, synchronously and exactly once per change, on the thread
+ * that changed the color.
+ *
+ * @see org.example.eiscuno.model.game.GameUnoAdapter#addCurrentColorListener(CurrentColorListener)
  */
 public interface CurrentColorListener {
     /**
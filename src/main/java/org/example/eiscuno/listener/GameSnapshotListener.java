@@ -0,0 +1,21 @@
+package org.example.eiscuno.listener;
+
+import org.example.eiscuno.model.game.GameSnapshot;
+
+/**
+ * Listener interface for the snapshots published by a game's
+ * {@link org.example.eiscuno.model.game.GameActor}.
+ * <p>
+ * It is called on the actor's thread every time a batch of commands was applied,
+ * with the snapshot reflecting them. Listeners that update the UI must hand the work
+ * over to the JavaFX Application Thread themselves.
+ * </p>
+ */
+public interface GameSnapshotListener {
+    /**
+     * Notifies that a new snapshot of the game was published.
+     *
+     * @param snapshot the published snapshot
+     */
+    void onSnapshotPublished(GameSnapshot snapshot);
+}
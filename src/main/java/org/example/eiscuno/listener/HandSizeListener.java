@@ -0,0 +1,23 @@
+package org.example.eiscuno.listener;
+
+import org.example.eiscuno.model.player.Hand;
+
+/**
+ * Listener interface for tracking how many cards a hand holds.
+ * <p>
+ * The hand notifies its listeners synchronously, on the thread that changed it, every
+ * time a card is added or removed. It is used to react to a player being left with a
+ * single card without polling the hand.
+ * </p>
+ *
+ * @see Hand#addHandSizeListener(HandSizeListener)
+ */
+public interface HandSizeListener {
+    /**
+     * Notifies that the number of cards of a hand changed.
+     *
+     * @param hand the hand that changed
+     * @param size the new number of cards in the hand
+     */
+    void onHandSizeChanged(Hand hand, int size);
+}
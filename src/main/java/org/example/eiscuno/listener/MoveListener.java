@@ -0,0 +1,63 @@
+package org.example.eiscuno.listener;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUnoAdapter;
+import org.example.eiscuno.model.game.TurnEnum;
+
+/**
+ * Listener interface for recording every change a move makes to a game.
+ * <p>
+ * The game notifies its move listener synchronously, on the thread applying the move,
+ * in the order the changes are made. Applying the same notifications, in the same order,
+ * to a copy of the game taken before them rebuilds the game exactly, which is how a
+ * saved game is replayed.
+ * </p>
+ *
+ * @see GameUnoAdapter#setMoveListener(MoveListener)
+ */
+public interface MoveListener {
+    /**
+     * Notifies that a move was committed and whose turn it is now.
+     *
+     * @param turn the turn after the move
+     */
+    void onTurnCommitted(TurnEnum turn);
+
+    /**
+     * Notifies that a card was placed on the table.
+     *
+     * @param seat   the player who played it, or {@code null} if it came from the deck
+     * @param cardId the id of the card
+     */
+    void onCardPlayed(TurnEnum seat, int cardId);
+
+    /**
+     * Notifies that a player drew cards from the top of the deck.
+     *
+     * @param seat  the player who drew
+     * @param count the number of cards drawn
+     */
+    void onCardsDrawn(TurnEnum seat, int count);
+
+    /**
+     * Notifies that a color was chosen for a wild card.
+     *
+     * @param color the chosen color
+     */
+    void onColorChosen(CardColor color);
+
+    /**
+     * Notifies that a player called "UNO".
+     *
+     * @param seat the player who called it
+     */
+    void onUnoCalled(TurnEnum seat);
+
+    /**
+     * Notifies that the discard pile was shuffled back into the deck.
+     *
+     * @param deck the refilled deck, in its new order
+     */
+    void onDiscardsRecycled(Deck deck);
+}
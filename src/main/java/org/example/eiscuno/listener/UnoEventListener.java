@@ -1,10 +1,12 @@
 package org.example.eiscuno.listener;
 
+import org.example.eiscuno.model.player.Player;
+
 /**
  * Listener interface for UNO events in the game.
  * <p>
- * This listener is triggered when a player forgets to press the "UNO" button
- * while having only one card left in hand. The controller can use this event
+ * This listener is triggered when a player forgets to call "UNO" in time
+ * while having only one card left in hand, after the penalty card was drawn. The controller can use this event
  * to apply penalties or update the game's UI accordingly.
  * </p>
  */
@@ -20,6 +22,10 @@ public interface UnoEventListener {
      *   <li>Apply penalties to the player.</li>
      *   <li>Trigger relevant UI feedback.</li>
      * </ul>
+     * It is called from the thread of the game's
+     * {@link org.example.eiscuno.model.game.GameActor}, right after the penalty card was drawn.
+     *
+     * @param player the player who was penalized
      */
-    void onPlayerForgotToSayUno();
+    void onPlayerForgotToSayUno(Player player);
 }
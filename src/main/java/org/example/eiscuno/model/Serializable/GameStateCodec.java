@@ -0,0 +1,268 @@
+package org.example.eiscuno.model.Serializable;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.DeckEmptyPolicyEnum;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.gameState.GameState;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class {@code GameStateCodec}
+ * <p>
+ * Compact binary format of a {@link GameState}, used instead of Java serialization for
+ * saved games. Cards are written as their one-byte {@link CardId ids}, the deck, the
+ * table history and the hands as length-prefixed id arrays, and the turn, color and
+ * policy as their ordinals. Every object is written once, so a save is a couple of
+ * hundred bytes and is encoded or decoded with no reflection.
+ * </p>
+ *
+ * <p>Layout of version {@value #VERSION}, big-endian:</p>
+ * <pre>
+ * int   magic "UNOS"          byte  version
+ * byte  turn                  long  move number
+ * byte  current color         byte  deck-empty policy
+ * byte  deck size             byte[] deck ids, bottom to top
+ * byte  table size            long  cards played      long  table card mask
+ * byte  history size          byte[] history ids, oldest to top
+ * human, then machine:  byte name length, byte[] UTF-8 name, byte hand size, byte[] hand ids
+ * </pre>
+ *
+ * <p>Later versions must keep the magic and the version byte first, so
+ * {@link #decode(byte[])} can tell which layout it is reading.</p>
+ *
+ * @see GameStateFileHandler
+ */
+public final class GameStateCodec {
+    /** First bytes of every encoded state: "UNOS" in ASCII. */
+    public static final int MAGIC = 0x554E4F53;
+    /** Version of the layout written by {@link #encode(GameState)}. */
+    public static final byte VERSION = 1;
+
+    /** Cached values of the enums written as ordinals. */
+    private static final TurnEnum[] TURNS = TurnEnum.values();
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final DeckEmptyPolicyEnum[] POLICIES = DeckEmptyPolicyEnum.values();
+
+    /**
+     * Prevents instantiation; the codec only has static methods.
+     */
+    private GameStateCodec() {
+    }
+
+    /**
+     * Checks if the given bytes start like an encoded state, of any version.
+     *
+     * @param data the bytes to check
+     * @return true if they start with {@link #MAGIC}
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data.length >= Integer.BYTES && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * Encodes a state. The state's deck, table and players must be the ones of its game.
+     *
+     * @param gameState the state to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(GameState gameState) {
+        GameUno game = gameState.getGameUno();
+        byte[] humanName = nameOf(gameState.getHumanPlayer());
+        byte[] machineName = nameOf(gameState.getMachinePlayer());
+        byte[] ids = new byte[CardId.COUNT];
+        ByteBuffer out = ByteBuffer.allocate(Integer.BYTES + 5 * Byte.BYTES + 3 * Long.BYTES
+                + 3 * (1 + CardId.COUNT) + 1 + Table.HISTORY_SIZE
+                + 2 + humanName.length + 2 + machineName.length);
+
+        out.putInt(MAGIC).put(VERSION);
+        out.put((byte) game.getTurn().ordinal()).putLong(game.getMoveNumber());
+        out.put((byte) game.getCurrentColor().ordinal()).put((byte) game.getDeckEmptyPolicy().ordinal());
+
+        int deckSize = gameState.getDeck().copyCardIds(ids);
+        out.put((byte) deckSize).put(ids, 0, deckSize);
+
+        Table table = gameState.getTable();
+        out.put((byte) table.size()).putLong(table.getTotalPlayed()).putLong(table.getCardMask());
+        int history = table.getRecentCount();
+        out.put((byte) history);
+        for (int back = history - 1; back >= 0; back--) {
+            out.put((byte) table.getRecentCardId(back));
+        }
+
+        putPlayer(out, humanName, gameState.getHumanPlayer().getCardsPlayer());
+        putPlayer(out, machineName, gameState.getMachinePlayer().getCardsPlayer());
+
+        byte[] data = new byte[out.position()];
+        out.flip().get(data);
+        return data;
+    }
+
+    /**
+     * Decodes a state encoded by {@link #encode(GameState)}. The game, deck, table and
+     * players are rebuilt once and shared by the state, as they are in a live game.
+     *
+     * @param data the encoded bytes
+     * @return the decoded state
+     * @throws IllegalArgumentException if the bytes are not an encoded state, were written
+     *                                  by an unknown version, or are corrupt
+     */
+    public static GameState decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a saved UNO game.");
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unknown save version " + version + ".");
+            }
+            TurnEnum turn = TURNS[ordinal(in, TURNS.length)];
+            long moveNumber = in.getLong();
+            CardColor currentColor = COLORS[ordinal(in, COLORS.length)];
+            DeckEmptyPolicyEnum policy = POLICIES[ordinal(in, POLICIES.length)];
+
+            byte[] ids = new byte[CardId.COUNT];
+            Deck deck = new Deck();
+            int deckSize = getIds(in, ids);
+            long seen = claim(0L, ids, deckSize);
+            deck.restoreCardIds(ids, deckSize);
+
+            Table table = new Table();
+            int tableSize = Byte.toUnsignedInt(in.get());
+            long totalPlayed = in.getLong();
+            long cardMask = in.getLong();
+            if ((seen & cardMask) != 0) {
+                throw new IllegalArgumentException("Card both in the deck and on the table in saved game.");
+            }
+            seen |= cardMask;
+            table.restore(ids, getIds(in, ids), cardMask, tableSize, totalPlayed);
+
+            Player humanPlayer = getPlayer(in, ids, seen);
+            seen |= humanPlayer.getCardMask();
+            Player machinePlayer = getPlayer(in, ids, seen);
+
+            GameUno game = new GameUno(humanPlayer, machinePlayer, deck, table);
+            game.setDeckEmptyPolicy(policy);
+            game.setCurrentColor(currentColor);
+            game.restoreTurn(turn, moveNumber);
+            return new GameState(deck, game, table, humanPlayer, machinePlayer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated saved game.", e);
+        }
+    }
+
+    /**
+     * Writes a player: name and hand ids in hand order.
+     *
+     * @param out  the buffer to write to
+     * @param name the UTF-8 name of the player
+     * @param hand the player's hand
+     */
+    private static void putPlayer(ByteBuffer out, byte[] name, Hand hand) {
+        out.put((byte) name.length).put(name);
+        out.put((byte) hand.size());
+        for (int id = hand.firstId(); id != CardId.NONE; id = hand.nextId(id)) {
+            out.put((byte) id);
+        }
+    }
+
+    /**
+     * Reads a player written by {@link #putPlayer(ByteBuffer, byte[], Hand)}.
+     *
+     * @param in   the buffer to read from
+     * @param ids  scratch array for the hand ids
+     * @param seen mask of the card ids already read elsewhere, which the hand cannot hold
+     * @return the player with their hand
+     */
+    private static Player getPlayer(ByteBuffer in, byte[] ids, long seen) {
+        byte[] name = new byte[Byte.toUnsignedInt(in.get())];
+        in.get(name);
+        Player player = new Player(new String(name, StandardCharsets.UTF_8));
+        int count = getIds(in, ids);
+        claim(seen, ids, count);
+        player.getCardsPlayer().addIds(ids, 0, count);
+        return player;
+    }
+
+    /**
+     * Reads a length-prefixed array of card ids, checking every id.
+     *
+     * @param in  the buffer to read from
+     * @param ids array receiving the ids
+     * @return the number of ids read
+     */
+    private static int getIds(ByteBuffer in, byte[] ids) {
+        int count = Byte.toUnsignedInt(in.get());
+        if (count > ids.length) {
+            throw new IllegalArgumentException("Too many cards in saved game: " + count + ".");
+        }
+        in.get(ids, 0, count);
+        for (int i = 0; i < count; i++) {
+            if (!CardId.isCard(ids[i])) {
+                throw new IllegalArgumentException("Invalid card id in saved game: " + ids[i] + ".");
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds card ids to the mask of the ids already read. Every card exists once, so an id
+     * read twice means the save is corrupt.
+     *
+     * @param seen  mask of the card ids already read
+     * @param ids   array holding the ids to add
+     * @param count the number of ids to add
+     * @return the mask with the new ids set
+     * @throws IllegalArgumentException if an id was already read
+     */
+    private static long claim(long seen, byte[] ids, int count) {
+        for (int i = 0; i < count; i++) {
+            long bit = 1L << ids[i];
+            if ((seen & bit) != 0) {
+                throw new IllegalArgumentException("Duplicate card id in saved game: " + ids[i] + ".");
+            }
+            seen |= bit;
+        }
+        return seen;
+    }
+
+    /**
+     * Reads an enum ordinal, checking its range.
+     *
+     * @param in    the buffer to read from
+     * @param count number of constants of the enum
+     * @return the ordinal
+     */
+    private static int ordinal(ByteBuffer in, int count) {
+        int ordinal = Byte.toUnsignedInt(in.get());
+        if (ordinal >= count) {
+            throw new IllegalArgumentException("Invalid value in saved game: " + ordinal + ".");
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the name of a player as UTF-8, truncated to what one length byte can hold.
+     *
+     * @param player the player
+     * @return the encoded name
+     */
+    private static byte[] nameOf(Player player) {
+        byte[] name = player.getTypePlayer().getBytes(StandardCharsets.UTF_8);
+        if (name.length > 255) {
+            byte[] truncated = new byte[255];
+            System.arraycopy(name, 0, truncated, 0, truncated.length);
+            return truncated;
+        }
+        return name;
+    }
+}
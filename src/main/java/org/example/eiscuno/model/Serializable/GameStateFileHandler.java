@@ -0,0 +1,76 @@
+package org.example.eiscuno.model.Serializable;
+
+import org.example.eiscuno.model.gameState.GameState;
+import org.example.eiscuno.model.gameState.MoveJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Class {@code GameStateFileHandler}
+ *
+ * <p>{@link ISerializableFileHandler} that saves {@link GameState}s with the compact
+ * {@link GameStateCodec} instead of Java serialization. Any other object, and any file
+ * that does not start with the codec's magic number, such as a game saved by an older
+ * version, is still handled by {@link SerializableFileHandler}. Games saved as a
+ * {@link MoveJournal} are rebuilt by replaying it.</p>
+ *
+ * @see GameStateCodec
+ * @see MoveJournal
+ * @see SerializableFileHandler
+ */
+public class GameStateFileHandler extends SerializableFileHandler {
+    /**
+     * Encodes a {@link GameState} with the {@link GameStateCodec}; any other object is
+     * serialized with Java serialization.
+     *
+     * @param element the object to encode
+     * @return the encoded bytes, or {@code null} if an error occurred
+     */
+    @Override
+    public byte[] toBytes(Object element) {
+        if (element instanceof GameState) {
+            return GameStateCodec.encode((GameState) element);
+        }
+        return super.toBytes(element);
+    }
+
+    /**
+     * Reads a saved object, replaying it if the file is a {@link MoveJournal} or decoding
+     * it with the {@link GameStateCodec} if it was written by it.
+     *
+     * @param filename the path of the file to read the object from.
+     * @return the decoded object, or {@code null} if an error occurred
+     */
+    @Override
+    public Object deserialize(String filename) {
+        try {
+            return fromBytes(Files.readAllBytes(Path.of(filename)));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Rebuilds a saved object: replays a {@link MoveJournal}, decodes a
+     * {@link GameStateCodec} state, or else reads it with Java serialization.
+     *
+     * @param data the saved bytes
+     * @return the decoded object, or {@code null} if an error occurred
+     */
+    @Override
+    public Object fromBytes(byte[] data) {
+        boolean journal = MoveJournal.isJournal(data);
+        if (!journal && !GameStateCodec.isEncoded(data)) {
+            return super.fromBytes(data);
+        }
+        try {
+            return journal ? MoveJournal.replay(data) : GameStateCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
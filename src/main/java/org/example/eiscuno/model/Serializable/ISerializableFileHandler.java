@@ -29,4 +29,44 @@ public interface ISerializableFileHandler {
      *         or {@code null} if the process failed or the file was not found.
      */
     Object deserialize(String filename);
+
+    /**
+     * Serializes the given object in memory, without touching any file. Together with
+     * {@link #writeBytes(String, byte[])} this splits {@link #serialize(String, Object)}
+     * in two, so an object can be captured on one thread and written on another.
+     *
+     * @param element the object to serialize
+     * @return the serialized bytes, or {@code null} if the object could not be serialized
+     */
+    byte[] toBytes(Object element);
+
+    /**
+     * Deserializes an object from bytes produced by {@link #toBytes(Object)}, without
+     * touching any file.
+     *
+     * @param data the serialized bytes
+     * @return the deserialized object, or {@code null} if the bytes could not be read
+     */
+    Object fromBytes(byte[] data);
+
+    /**
+     * Writes bytes produced by {@link #toBytes(Object)} to the specified file, replacing
+     * it as a whole: a reader never sees a partially written file.
+     *
+     * @param filename the name or path of the file to write
+     * @param data     the serialized bytes
+     * @return true if the file was written
+     */
+    boolean writeBytes(String filename, byte[] data);
+
+    /**
+     * Appends bytes to the end of the specified file, creating it if needed. Unlike
+     * {@link #writeBytes(String, byte[])} the write is not atomic: a crash may leave only
+     * part of the bytes in the file, so the format must detect an incomplete tail.
+     *
+     * @param filename the name or path of the file to append to
+     * @param data     the bytes to append
+     * @return true if every byte was appended
+     */
+    boolean appendBytes(String filename, byte[] data);
 }
@@ -0,0 +1,159 @@
+package org.example.eiscuno.model.Serializable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class {@code SaveSlotFileHandler}
+ *
+ * <p>{@link GameStateFileHandler} writing its files as memory-mapped {@link SaveSlots}
+ * instead of rewriting them through a temporary file. A write or an append is a copy
+ * into the slot not holding the latest save, so a crash in the middle of it leaves the
+ * previous save readable, and no file is opened or closed after the first write.</p>
+ *
+ * <p>Whole writes, which start a new save, force the slot to the device; appends, made
+ * once per move, are left for the operating system to write back, so a game does not
+ * sync after every move. Files that are not slot files, such as games saved by an older
+ * version, are still read by {@link GameStateFileHandler}.</p>
+ *
+ * <p>A file stays mapped, and is read from memory, until {@link #release(String)} is
+ * called for it, which the game does when its runtime shuts down.</p>
+ *
+ * @see SaveSlots
+ */
+public class SaveSlotFileHandler extends GameStateFileHandler {
+    /**
+     * Slots opened by every handler of the JVM, by absolute file path, so a file is
+     * mapped once and all its writes see the same latest save.
+     */
+    private static final Map<Path, SaveSlots> OPEN_SLOTS = new HashMap<>();
+
+    /** Bytes of data each slot can hold, for the files this handler maps first. */
+    private final int slotCapacity;
+
+    /**
+     * Constructs a handler with slots of {@link SaveSlots#DEFAULT_SLOT_CAPACITY} bytes.
+     */
+    public SaveSlotFileHandler() {
+        this(SaveSlots.DEFAULT_SLOT_CAPACITY);
+    }
+
+    /**
+     * Constructs a handler with slots of the given capacity. Anything bigger cannot be
+     * written.
+     *
+     * @param slotCapacity bytes of data each slot can hold
+     */
+    public SaveSlotFileHandler(int slotCapacity) {
+        if (slotCapacity <= 0) {
+            throw new IllegalArgumentException("The slot capacity must be positive: " + slotCapacity);
+        }
+        this.slotCapacity = slotCapacity;
+    }
+
+    /**
+     * Saves the bytes in the free slot of the file and forces them to the device.
+     *
+     * @param filename the path of the slot file
+     * @param data     the serialized bytes
+     * @return true if the bytes were saved, false if the file could not be mapped or the
+     *         bytes do not fit in a slot
+     */
+    @Override
+    public boolean writeBytes(String filename, byte[] data) {
+        SaveSlots slots = slotsOf(filename);
+        return slots != null && slots.commit(data, true);
+    }
+
+    /**
+     * Saves the latest save of the file followed by the bytes in its free slot, without
+     * forcing them to the device.
+     *
+     * @param filename the path of the slot file
+     * @param data     the bytes to append
+     * @return true if the bytes were saved, false if the file could not be mapped, has no
+     *         save yet, or the result does not fit in a slot
+     */
+    @Override
+    public boolean appendBytes(String filename, byte[] data) {
+        SaveSlots slots = slotsOf(filename);
+        return slots != null && slots.append(data, false);
+    }
+
+    /**
+     * Reads the latest valid save of a slot file, or the whole file if it is not one. A
+     * file this process mapped to write it, and has not {@link #release(String) released}
+     * yet, is read from the in-memory copy of its latest save, not from the disk: changes
+     * made to the file by anything else are not seen until it is released.
+     *
+     * @param filename the path of the file to read the object from.
+     * @return the decoded object, or {@code null} if an error occurred or nothing was saved
+     */
+    @Override
+    public Object deserialize(String filename) {
+        byte[] data;
+        SaveSlots slots;
+        Path path = Path.of(filename).toAbsolutePath();
+        synchronized (OPEN_SLOTS) {
+            slots = OPEN_SLOTS.get(path);
+        }
+        if (slots != null) {
+            data = slots.read();
+        } else {
+            try {
+                data = Files.readAllBytes(path);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+            if (SaveSlots.isSlotFile(data)) {
+                data = SaveSlots.parse(ByteBuffer.wrap(data));
+            }
+        }
+        return data == null ? null : fromBytes(data);
+    }
+
+    /**
+     * Forces the latest save of a file to the device and forgets its mapping, so the next
+     * read or write opens the file again. The mapping itself is unmapped by the garbage
+     * collector. Does nothing if the file is not mapped.
+     *
+     * @param filename the path of the slot file
+     */
+    public void release(String filename) {
+        SaveSlots slots;
+        synchronized (OPEN_SLOTS) {
+            slots = OPEN_SLOTS.remove(Path.of(filename).toAbsolutePath());
+        }
+        if (slots != null) {
+            slots.force();
+        }
+    }
+
+    /**
+     * Returns the slots of a file, mapping it on first use.
+     *
+     * @param filename the path of the slot file
+     * @return its slots, or {@code null} if it could not be mapped
+     */
+    private SaveSlots slotsOf(String filename) {
+        Path path = Path.of(filename).toAbsolutePath();
+        synchronized (OPEN_SLOTS) {
+            SaveSlots slots = OPEN_SLOTS.get(path);
+            if (slots == null) {
+                try {
+                    slots = SaveSlots.open(path, slotCapacity);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return null;
+                }
+                OPEN_SLOTS.put(path, slots);
+            }
+            return slots;
+        }
+    }
+}
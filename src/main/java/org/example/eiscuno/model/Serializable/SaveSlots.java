@@ -0,0 +1,319 @@
+package org.example.eiscuno.model.Serializable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Class {@code SaveSlots}
+ * <p>
+ * Save file holding two alternating slots, memory-mapped once and written in place.
+ * Each commit goes to the slot that does not hold the latest save, with a sequence number
+ * one higher and CRC-32 checks of the slot. A save is therefore a memory copy, with no
+ * open, write or close call, and a crash in the middle of it only damages the slot being
+ * written: {@link #read()} and {@link #parse(ByteBuffer)} return the newest slot whose
+ * checks pass, which is the previous save.
+ * </p>
+ *
+ * <p>An {@link #append(byte[], boolean)} only copies what the slot it writes is missing:
+ * the slot already holds the save before the previous one, so that is the previous
+ * append and the new data. The data CRC is kept running as the save grows, so neither
+ * the copy nor the check depends on the size of the save.</p>
+ *
+ * <p>The operating system writes the mapped pages back on its own, which survives the
+ * process being killed. {@link #commit(byte[], boolean)} can also force them to the
+ * device, to survive a power loss, at the cost of a sync.</p>
+ *
+ * <p>Layout, big-endian:</p>
+ * <pre>
+ * int   magic "UNOM"          int   slot capacity
+ * two slots:  long sequence, int length, int CRC-32 of the data,
+ *             int CRC-32 of the sequence, length and data CRC, byte[capacity] data
+ * </pre>
+ *
+ * @see SaveSlotFileHandler
+ */
+public final class SaveSlots {
+    /** First bytes of every slot file: "UNOM" in ASCII. */
+    public static final int MAGIC = 0x554E4F4D;
+    /** Bytes of data each slot can hold, unless another capacity is given. */
+    public static final int DEFAULT_SLOT_CAPACITY = 16 * 1024;
+
+    /** Bytes of the file header: magic and slot capacity. */
+    private static final int FILE_HEADER = 2 * Integer.BYTES;
+    /** Bytes of a slot header covered by its header CRC: sequence, length and data CRC. */
+    private static final int CHECKED_HEADER = Long.BYTES + 2 * Integer.BYTES;
+    /** Bytes of a slot header: checked fields and header CRC. */
+    private static final int SLOT_HEADER = CHECKED_HEADER + Integer.BYTES;
+
+    /** The mapped file. */
+    private final MappedByteBuffer buffer;
+    /** Bytes of data each slot can hold. */
+    private final int capacity;
+    /** Computes the header check of each slot. */
+    private final CRC32 headerCrc = new CRC32();
+    /** CRC of {@link #live}, updated as the save grows. */
+    private final CRC32 liveCrc = new CRC32();
+    /** Bytes at the start of each slot known to match {@link #live}. */
+    private final int[] matching = new int[2];
+    /** Slot holding the latest save, -1 if none. */
+    private int liveSlot;
+    /** Sequence number of the latest save, 0 if none. */
+    private long sequence;
+    /** Copy of the data of the latest save, so appending never reads the mapping back. */
+    private byte[] live;
+    /** Number of bytes used in {@link #live}. */
+    private int liveLength;
+
+    /**
+     * Maps the slots of a file.
+     *
+     * @param buffer   the mapped file, header included
+     * @param capacity bytes of data each slot can hold
+     */
+    private SaveSlots(MappedByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.live = new byte[capacity];
+        this.liveSlot = newestSlot(buffer, capacity);
+        if (liveSlot >= 0) {
+            int offset = slotOffset(liveSlot, capacity);
+            sequence = buffer.getLong(offset);
+            liveLength = buffer.getInt(offset + Long.BYTES);
+            buffer.get(offset + SLOT_HEADER, live, 0, liveLength);
+            liveCrc.update(live, 0, liveLength);
+            matching[liveSlot] = liveLength;
+        }
+    }
+
+    /**
+     * Opens a slot file, creating it if it does not exist. A file in another format, or
+     * with another slot capacity, is replaced by an empty slot file.
+     *
+     * @param path     the file to open
+     * @param capacity bytes of data each slot can hold
+     * @return the opened slots
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static SaveSlots open(Path path, int capacity) throws IOException {
+        long size = fileSize(capacity);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer;
+            if (channel.size() == size) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (buffer.getInt(0) == MAGIC && buffer.getInt(Integer.BYTES) == capacity) {
+                    return new SaveSlots(buffer, capacity);
+                }
+            } else {
+                channel.truncate(0);
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+            for (int slot = 0; slot < 2; slot++) {
+                buffer.putLong(slotOffset(slot, capacity), 0L);
+            }
+            buffer.putInt(0, MAGIC).putInt(Integer.BYTES, capacity);
+            return new SaveSlots(buffer, capacity);
+        }
+    }
+
+    /**
+     * Checks if the given bytes start like a slot file.
+     *
+     * @param data the bytes to check
+     * @return true if they start with {@link #MAGIC}
+     */
+    public static boolean isSlotFile(byte[] data) {
+        return data.length >= FILE_HEADER && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * Reads the latest save of a slot file read as a whole, without mapping it.
+     *
+     * @param file the contents of the slot file
+     * @return the data of the newest valid slot, or {@code null} if there is none
+     */
+    public static byte[] parse(ByteBuffer file) {
+        if (file.limit() < FILE_HEADER || file.getInt(0) != MAGIC) {
+            return null;
+        }
+        int capacity = file.getInt(Integer.BYTES);
+        if (capacity <= 0 || file.limit() != fileSize(capacity)) {
+            return null;
+        }
+        int slot = newestSlot(file, capacity);
+        if (slot < 0) {
+            return null;
+        }
+        int offset = slotOffset(slot, capacity);
+        byte[] data = new byte[file.getInt(offset + Long.BYTES)];
+        file.get(offset + SLOT_HEADER, data);
+        return data;
+    }
+
+    /**
+     * Returns the data of the latest save.
+     *
+     * @return a copy of the data, or {@code null} if nothing was saved
+     */
+    public synchronized byte[] read() {
+        if (liveSlot < 0) {
+            return null;
+        }
+        byte[] data = new byte[liveLength];
+        System.arraycopy(live, 0, data, 0, liveLength);
+        return data;
+    }
+
+    /**
+     * Returns how many bytes at the start of a slot are known to match the latest save,
+     * which the next write to that slot does not copy again.
+     *
+     * @param slot the slot index, 0 or 1
+     * @return the number of matching bytes
+     */
+    synchronized int matchingBytes(int slot) {
+        return matching[slot];
+    }
+
+    /**
+     * Forces every save made so far, appends included, to the device.
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * Saves the given data as a whole, in the slot not holding the latest save.
+     *
+     * @param data  the data to save
+     * @param force whether to force the slot to the device before returning
+     * @return false if the data does not fit in a slot; nothing is changed then
+     */
+    public synchronized boolean commit(byte[] data, boolean force) {
+        if (data.length > capacity) {
+            return false;
+        }
+        System.arraycopy(data, 0, live, 0, data.length);
+        liveLength = data.length;
+        liveCrc.reset();
+        liveCrc.update(live, 0, liveLength);
+        matching[0] = 0;
+        matching[1] = 0;
+        writeSlot(force);
+        return true;
+    }
+
+    /**
+     * Saves the latest save followed by the given data, in the slot not holding the
+     * latest save. The latest save stays valid until the new one is complete.
+     *
+     * @param data  the data to add
+     * @param force whether to force the slot to the device before returning
+     * @return false if there is no save yet or the result does not fit in a slot;
+     *         nothing is changed then
+     */
+    public synchronized boolean append(byte[] data, boolean force) {
+        if (liveSlot < 0 || liveLength + data.length > capacity) {
+            return false;
+        }
+        System.arraycopy(data, 0, live, liveLength, data.length);
+        liveLength += data.length;
+        liveCrc.update(data);
+        writeSlot(force);
+        return true;
+    }
+
+    /**
+     * Writes {@link #live} to the other slot: the data it is missing first, then the
+     * header with the next sequence number and the CRCs, which makes it the latest save.
+     * Until the header is written, the slot's old header still describes its old data.
+     *
+     * @param force whether to force the written bytes to the device
+     */
+    private void writeSlot(boolean force) {
+        int slot = liveSlot == 0 ? 1 : 0;
+        int offset = slotOffset(slot, capacity);
+        int from = Math.min(matching[slot], liveLength);
+        long next = sequence + 1;
+        buffer.put(offset + SLOT_HEADER + from, live, from, liveLength - from);
+        buffer.putLong(offset, next).putInt(offset + Long.BYTES, liveLength)
+                .putInt(offset + Long.BYTES + Integer.BYTES, (int) liveCrc.getValue());
+        buffer.putInt(offset + CHECKED_HEADER, headerChecksum(buffer, offset, headerCrc));
+        if (force) {
+            buffer.force(offset, SLOT_HEADER + liveLength);
+        }
+        matching[slot] = liveLength;
+        liveSlot = slot;
+        sequence = next;
+    }
+
+    /**
+     * Finds the valid slot with the highest sequence number.
+     *
+     * @param file     the whole slot file
+     * @param capacity bytes of data each slot can hold
+     * @return the slot index, or -1 if no slot is valid
+     */
+    private static int newestSlot(ByteBuffer file, int capacity) {
+        CRC32 crc = new CRC32();
+        int newest = -1;
+        long newestSequence = 0L;
+        for (int slot = 0; slot < 2; slot++) {
+            int offset = slotOffset(slot, capacity);
+            long slotSequence = file.getLong(offset);
+            int length = file.getInt(offset + Long.BYTES);
+            if (slotSequence <= newestSequence || length < 0 || length > capacity
+                    || file.getInt(offset + CHECKED_HEADER) != headerChecksum(file, offset, crc)) {
+                continue;
+            }
+            crc.reset();
+            crc.update(file.slice(offset + SLOT_HEADER, length));
+            if (file.getInt(offset + Long.BYTES + Integer.BYTES) != (int) crc.getValue()) {
+                continue;
+            }
+            newest = slot;
+            newestSequence = slotSequence;
+        }
+        return newest;
+    }
+
+    /**
+     * Computes the header check of a slot: CRC-32 of its sequence, length and data CRC.
+     *
+     * @param file   the whole slot file
+     * @param offset offset of the slot
+     * @param crc    the CRC to reuse
+     * @return the check
+     */
+    private static int headerChecksum(ByteBuffer file, int offset, CRC32 crc) {
+        crc.reset();
+        crc.update(file.slice(offset, CHECKED_HEADER));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns the offset of a slot in the file.
+     *
+     * @param slot     the slot index, 0 or 1
+     * @param capacity bytes of data each slot can hold
+     * @return the offset of its header
+     */
+    private static int slotOffset(int slot, int capacity) {
+        return FILE_HEADER + slot * (SLOT_HEADER + capacity);
+    }
+
+    /**
+     * Returns the size of a slot file.
+     *
+     * @param capacity bytes of data each slot can hold
+     * @return the file size in bytes
+     */
+    private static long fileSize(int capacity) {
+        return FILE_HEADER + 2L * (SLOT_HEADER + capacity);
+    }
+}
@@ -1,6 +1,11 @@
 package org.example.eiscuno.model.Serializable;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Class {@code SerializableFileHandler}
@@ -25,10 +30,87 @@ public class SerializableFileHandler implements ISerializableFileHandler{
      */
     @Override
     public void serialize(String filename, Object element) {
-        try(ObjectOutputStream obs = new ObjectOutputStream(new FileOutputStream(filename))){
+        byte[] data = toBytes(element);
+        if (data != null) {
+            writeBytes(filename, data);
+        }
+    }
+
+    /**
+     * Serializes the given object into a byte array.
+     *
+     * @param element the object to be serialized; must implement {@link Serializable}.
+     * @return the serialized bytes, or {@code null} if an error occurred
+     */
+    @Override
+    public byte[] toBytes(Object element) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream obs = new ObjectOutputStream(bytes)){
             obs.writeObject(element);
         }catch (IOException e){
             e.printStackTrace();
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes an object from a byte array.
+     *
+     * @param data the serialized bytes
+     * @return the deserialized object, or {@code null} if an error occurred
+     */
+    @Override
+    public Object fromBytes(byte[] data) {
+        try(ObjectInputStream inp = new ObjectInputStream(new ByteArrayInputStream(data))){
+            return inp.readObject();
+        }catch (IOException | ClassNotFoundException e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Writes the bytes to a temporary file next to the target and then moves it over
+     * the target, so a crash in the middle of a save leaves the previous file intact.
+     *
+     * @param filename the path of the file to write
+     * @param data     the serialized bytes
+     * @return true if the file was written
+     */
+    @Override
+    public boolean writeBytes(String filename, byte[] data) {
+        Path target = Path.of(filename).toAbsolutePath();
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.write(temporary, data);
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        }catch (IOException e){
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Appends the bytes to the end of the file, creating it if it does not exist.
+     *
+     * @param filename the path of the file to append to
+     * @param data     the bytes to append
+     * @return true if the bytes were appended
+     */
+    @Override
+    public boolean appendBytes(String filename, byte[] data) {
+        try {
+            Files.write(Path.of(filename), data, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            return true;
+        }catch (IOException e){
+            e.printStackTrace();
+            return false;
         }
     }
 
@@ -1,12 +1,15 @@
 package org.example.eiscuno.model.card;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import org.example.eiscuno.model.card.cardEffect.CardEffect;
+import org.example.eiscuno.model.card.cardEffect.CardEffectContext;
+import org.example.eiscuno.model.card.cardEffect.EffectKind;
 import org.example.eiscuno.model.card.cardEffect.ICardEffect;
 import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.unoenum.ImageRegistry;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 /**
@@ -14,11 +17,20 @@ import java.io.Serializable;
  * <p>
  * A card has:
  * <ul>
+ *   <li>A compact {@link CardId id}, from which its value and printed color are derived</li>
  *   <li>A value (number or special action)</li>
  *   <li>A color (RED, BLUE, GREEN, YELLOW, or neutral for wild cards)</li>
  *   <li>An optional {@link ICardEffect effect} that triggers specific game actions</li>
- *   <li>An image and {@link ImageView} representation for the UI</li>
+ *   <li>An image representation for the UI</li>
  * </ul>
+ * <p>
+ * Cards are immutable flyweights: there is exactly one instance per card id in the JVM,
+ * obtained through {@link #of(int)}, and it is shared by every deck, hand, table and game.
+ * The color chosen for a wild card is game state, kept by
+ * {@link org.example.eiscuno.model.game.GameUnoAdapter#getCurrentColor()}, not by the card.
+ * Images are served by the shared {@link ImageRegistry}; views are created by the UI with
+ * {@link ImageRegistry#createCardImageView(EISCUnoEnum)}.
+ * </p>
  *
  * @see GameUno
  * @see Player
@@ -26,251 +38,127 @@ import java.io.Serializable;
  */
 public class Card implements Serializable {
     /**
-     * Resource path for this card's image file.
-     */
-    private String url;
-    /**
-     * Value of the card (0–9 or special keywords such as SKIP, REVERSE, EAT2, EAT4, NEWCOLOR).
-     */
-    private String value;
-    /**
-     * Color of the card (RED, BLUE, GREEN, YELLOW, UNKNOWN).
-     */
-    private String color;
-    /**
-     * Visual image of the card. Marked as {@code transient} to avoid serialization.
+     * The only instance of each card, indexed by id; {@code null} for ids that are not cards.
      */
-    private transient Image image;
+    private static final Card[] REGISTRY = new Card[CardId.COUNT];
+
+    static {
+        for (int id = 0; id < CardId.COUNT; id++) {
+            if (CardId.isCard(id)) {
+                REGISTRY[id] = new Card(id);
+            }
+        }
+    }
+
     /**
-     * ImageView used to display this card in the JavaFX UI.
-     * Reconstructed if lost during serialization.
+     * Compact identity of this card, see {@link CardId}.
      */
-    private transient ImageView cardImageView;
+    private final byte id;
+
     /**
-     * The effect assigned to this card, defining its special behavior when played.
+     * Constructs the registry instance of a card. Its value, color and effect are
+     * taken from the {@link CardId} lookup tables.
+     *
+     * @param id the id of the card
      */
-    private CardEffect effect;
+    private Card(int id) {
+        this.id = (byte) id;
+    }
 
     /**
-     * Inner context class that carries all necessary information for applying a card's effect.
-     * <p>
-     * This class is passed as a parameter to {@link #applyEffect(CardEffectContext)}
-     * and contains references to:
-     * <ul>
-     *     <li>The current {@link GameUno} instance</li>
-     *     <li>The target {@link Player} affected by the effect</li>
-     *     <li>The color to be set (used for wild cards)</li>
-     * </ul>
+     * Returns the shared instance of the card with the given id.
+     *
+     * @param id the card id
+     * @return the card
+     * @throws IllegalArgumentException if the id does not belong to a card of the deck
      */
-    public class CardEffectContext implements Serializable {
-        /**
-         * Reference to the active UNO game instance.
-         */
-        private GameUno game;
-        /**
-         * The player affected by this card's effect.
-         */
-        private Player targetPlayer;
-        /**
-         * The chosen color to be applied (mainly for wild cards).
-         */
-        private String color;
-
-        /**
-         * Creates a context with game and target player information.
-         *
-         * @param game         the current game instance
-         * @param targetPlayer the player affected by this card
-         */
-        public CardEffectContext(GameUno game, Player targetPlayer) {
-
-            this.game = game;
-            this.targetPlayer = targetPlayer;
-            this.color = null;
-        }
-
-        /**
-         * Creates a context with only a chosen color (for wild cards).
-         *
-         * @param color the chosen color
-         */
-        public CardEffectContext(String color) {
-            this.color = color;
-            this.game = null;
-            this.targetPlayer = null;
-        }
-
-        /**
-         * Creates a context with game, target player, and color.
-         *
-         * @param game         the game instance
-         * @param targetPlayer the player affected by this card
-         * @param color        the chosen color
-         */
-        public  CardEffectContext(GameUno game, Player targetPlayer, String color) {
-            this.game = game;
-            this.targetPlayer = targetPlayer;
-            this.color = color;
-        }
-
-        /**
-         * @return the current {@link GameUno} instance.
-         */
-        public GameUno getGame() {
-            return game;
-        }
-
-        /**
-         * Sets the game instance for this context.
-         *
-         * @param game the {@link GameUno} to assign
-         */
-        public void setGame(GameUno game) {
-            this.game = game;
-        }
-
-        /**
-         * @return the player affected by this effect.
-         */
-        public Player getTargetPlayer() {
-            return targetPlayer;
-        }
-
-        /**
-         * Sets the player affected by this effect.
-         *
-         * @param targetPlayer the {@link Player} to assign
-         */
-        public void setTargetPlayer(Player targetPlayer) {
-            this.targetPlayer = targetPlayer;
-        }
-
-        /**
-         * @return a reference to the parent {@link Card}.
-         */
-        public Card getCard() {
-            return Card.this;
-        }
-
-        /**
-         * @return the color to be set by this effect.
-         */
-        public String getColor() {
-            return color;
+    public static Card of(int id) {
+        if (!CardId.isCard(id)) {
+            throw new IllegalArgumentException("Not a card id: " + id);
         }
+        return REGISTRY[id];
+    }
 
-        /**
-         * Sets the color to be used by this effect.
-         *
-         * @param color the color to assign
-         */
-        public void setColor(String color) {
-            this.color = color;
-        }
+    /**
+     * Returns the shared instance of the card drawn with the given asset.
+     *
+     * @param asset the asset of the card
+     * @return the card
+     * @throws IllegalArgumentException if the asset is not one of the deck's cards
+     */
+    public static Card of(EISCUnoEnum asset) {
+        return of(CardId.of(asset));
     }
 
     /**
-     * Constructs a new Card.
+     * Keeps cards unique after deserialization by replacing them with their registry instance.
      *
-     * @param url   the resource path to the card's image
-     * @param value the card's value (number or action: SKIP, REVERSE, EAT2, EAT4, NEWCOLOR)
-     * @param color the card's color (RED, BLUE, GREEN, YELLOW, or UNKNOWN for wild cards)
+     * @return the shared instance of this card
+     * @throws ObjectStreamException never thrown, required by the serialization contract
      */
-    public Card(String url, String value, String color) {
-        this.url = url;
-        this.value = value;
-        this.color = color;
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
-        this.effect = new CardEffect();
+    private Object readResolve() throws ObjectStreamException {
+        return of(id);
     }
 
     /**
-     * Assigns an effect to this card.
+     * Retrieves the kind of effect this card triggers.
      *
-     * @param effect the card effect implementation
+     * @return the card's {@link EffectKind}, {@link EffectKind#NONE} for number cards
      */
-    public void setEffect(ICardEffect effect) {
-        this.effect.setCardEffect(effect);
+    public EffectKind getEffectKind() {
+        return CardId.effect(id);
     }
 
     /**
      * Retrieves the effect associated with this card, if any.
      *
-     * @return the card's effect
+     * @return the shared effect implementation, or {@code null} for number cards
      */
     public ICardEffect getEffect(){
-        return this.effect.getCardEffect();
+        return CardId.effect(id).getEffect();
     }
 
     /**
-     * Creates and configures the ImageView for the card.
+     * Returns the full-size {@link Image} associated with this card.
      *
-     * @return the configured ImageView of the card
+     * @return the shared image of the card
      */
-    private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
-        card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(60);
-        return card;
+    public Image getImage() {
+        return ImageRegistry.getImage(getAsset());
     }
 
     /**
-     * Returns the image view representation of this card.
-     * <p>
-     * If the image was marked as {@code transient} and lost during serialization,
-     * it will be reloaded from the resource path.
-     * </p>
+     * Returns the asset this card is drawn with.
      *
-     * @return the image view of the card
+     * @return the card's {@link EISCUnoEnum} asset
      */
-    public ImageView getCard() {
-        if (cardImageView == null || image == null) {
-            this.image = new Image(String.valueOf(getClass().getResource(url)));
-            this.cardImageView = createCardImageView();
-        }
-        return cardImageView;
+    public EISCUnoEnum getAsset() {
+        return CardId.asset(id);
     }
 
     /**
-     * Returns the {@link Image} associated with this card.
-     * <p>
-     * If it was previously null (e.g., after deserialization), it will be reloaded.
-     * </p>
+     * Returns the compact identity of this card.
      *
-     * @return the image of the card
+     * @return the card id
      */
-    public Image getImage() {
-        if (image == null) {
-            this.image = new Image(String.valueOf(getClass().getResource(url)));
-        }
-        return image;
+    public int getId() {
+        return id;
     }
 
     /**
      * Retrieves the value or figure of the card.
      * @return the value of this card (number or action)
      */
-    public String getValue() {
-        return value;
+    public CardValue getValue() {
+        return CardId.value(id);
     }
 
     /**
-     * Retrieves the color of the card, returns "UNKOWN" for wild cards.
+     * Retrieves the printed color of the card, returns {@link CardColor#UNKNOWN} for wild cards.
      * @return the color of this card
      */
-    public String getColor() {
-        return color;
-    }
-
-    /**
-     * Changes the color of this card (used for wild cards).
-     *
-     * @param color the new color
-     */
-    public void setColor(String color) {
-        this.color = color;
+    public CardColor getColor() {
+        return CardId.color(id);
     }
 
     /**
@@ -279,9 +167,10 @@ public class Card implements Serializable {
      * If no effect is assigned, nothing happens.
      * </p>
      *
-     * @param context a {@link CardEffectContext} containing the game, target player, and/or chosen color
+     * @param context a {@link CardEffectContext} containing this card, the game, target player, and/or chosen color
      */
-    public void applyEffect(Card.CardEffectContext context) {
+    public void applyEffect(CardEffectContext context) {
+        ICardEffect effect = getEffect();
         if (effect != null) {
             effect.applyEffect(context);
         }
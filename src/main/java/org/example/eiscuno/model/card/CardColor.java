@@ -0,0 +1,71 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * Enum {@code CardColor}
+ * <p>
+ * Represents the colors an UNO card can have. Wild cards are printed without a color
+ * and use {@link #UNKNOWN} until a color is chosen for them.
+ * </p>
+ *
+ * @see Card
+ * @see CardId
+ */
+public enum CardColor {
+    /** Green cards. */
+    GREEN,
+    /** Yellow cards. */
+    YELLOW,
+    /** Blue cards. */
+    BLUE,
+    /** Red cards. */
+    RED,
+    /** Wild cards, which have no color of their own. */
+    UNKNOWN;
+
+    /**
+     * Cached result of {@link #values()}, so lookups by ordinal don't copy the array.
+     */
+    private static final CardColor[] VALUES = values();
+    /**
+     * Colors a player can choose after playing a wild card.
+     */
+    private static final CardColor[] CHOOSABLE = {GREEN, YELLOW, BLUE, RED};
+
+    /**
+     * Returns the color with the given ordinal.
+     *
+     * @param ordinal the ordinal of the color
+     * @return the matching {@code CardColor}
+     */
+    public static CardColor fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns the colors that can be chosen for a wild card.
+     *
+     * @return a new array with {@link #GREEN}, {@link #YELLOW}, {@link #BLUE} and {@link #RED}
+     */
+    public static CardColor[] choosable() {
+        return CHOOSABLE.clone();
+    }
+
+    /**
+     * Returns the choosable color at the given position, avoiding any allocation.
+     *
+     * @param index a position between 0 and 3
+     * @return the choosable color at that position
+     */
+    public static CardColor choosable(int index) {
+        return CHOOSABLE[index];
+    }
+
+    /**
+     * Returns the number of colors that can be chosen for a wild card.
+     *
+     * @return the number of choosable colors
+     */
+    public static int choosableCount() {
+        return CHOOSABLE.length;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.card.cardEffect.EffectKind;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * Class {@code CardId}
+ * <p>
+ * Compact identity of an UNO card. A card id is the {@link EISCUnoEnum#ordinal() ordinal}
+ * of the asset the card is drawn with, so it always fits in a {@code byte} and every
+ * card of the deck has a distinct id.
+ * </p>
+ *
+ * <p>The color and value of every id are classified once, when this class is loaded,
+ * and kept in lookup tables. Game logic that only needs to compare colors or values
+ * can work on plain ids without touching {@link Card} objects or Strings.</p>
+ *
+ * @see Card
+ * @see CardColor
+ * @see CardValue
+ */
+public final class CardId {
+    /** Sentinel used where no card is present. */
+    public static final int NONE = -1;
+    /** Number of possible ids; every valid id is in {@code [0, COUNT)}. */
+    public static final int COUNT = EISCUnoEnum.values().length;
+
+    /** Every asset, indexed by id. */
+    private static final EISCUnoEnum[] ASSETS = EISCUnoEnum.values();
+    /** Color of each id, {@code null} for assets that are not cards. */
+    private static final CardColor[] COLORS = new CardColor[COUNT];
+    /** Value of each id, {@code null} for assets that are not cards. */
+    private static final CardValue[] VALUES = new CardValue[COUNT];
+    /** Effect kind of each id, {@link EffectKind#NONE} for number cards and non-card assets. */
+    private static final EffectKind[] EFFECTS = new EffectKind[COUNT];
+
+    static {
+        for (EISCUnoEnum asset : ASSETS) {
+            String name = asset.name();
+            int id = asset.ordinal();
+            if (name.equals("WILD")) {
+                VALUES[id] = CardValue.NEWCOLOR;
+                COLORS[id] = CardColor.UNKNOWN;
+            } else if (name.equals("FOUR_WILD_DRAW")) {
+                VALUES[id] = CardValue.EAT4;
+                COLORS[id] = CardColor.UNKNOWN;
+            } else if (name.startsWith("TWO_WILD_DRAW_")) {
+                VALUES[id] = CardValue.EAT2;
+                COLORS[id] = CardColor.valueOf(name.substring("TWO_WILD_DRAW_".length()));
+            } else if (name.startsWith("SKIP_")) {
+                VALUES[id] = CardValue.SKIP;
+                COLORS[id] = CardColor.valueOf(name.substring("SKIP_".length()));
+            } else if (name.startsWith("RESERVE_")) {
+                VALUES[id] = CardValue.REVERSE;
+                COLORS[id] = CardColor.valueOf(name.substring("RESERVE_".length()));
+            } else if (name.matches("(GREEN|YELLOW|BLUE|RED)_[0-9]")) {
+                VALUES[id] = CardValue.ofDigit(name.charAt(name.length() - 1) - '0');
+                COLORS[id] = CardColor.valueOf(name.substring(0, name.indexOf('_')));
+            }
+            EFFECTS[id] = VALUES[id] == null ? EffectKind.NONE : EffectKind.of(VALUES[id]);
+        }
+    }
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private CardId() {
+    }
+
+    /**
+     * Returns the id of the card drawn with the given asset.
+     *
+     * @param asset the card's asset
+     * @return the card id
+     */
+    public static int of(EISCUnoEnum asset) {
+        return asset.ordinal();
+    }
+
+    /**
+     * Checks if the given id identifies a playable card (as opposed to a background,
+     * logo or card back asset).
+     *
+     * @param id the id to check
+     * @return true if the id belongs to a card of the deck
+     */
+    public static boolean isCard(int id) {
+        return id >= 0 && id < COUNT && VALUES[id] != null;
+    }
+
+    /**
+     * Returns the asset of the given card.
+     *
+     * @param id the card id
+     * @return the {@link EISCUnoEnum} the card is drawn with
+     */
+    public static EISCUnoEnum asset(int id) {
+        return ASSETS[id];
+    }
+
+    /**
+     * Returns the printed color of the given card.
+     *
+     * @param id the card id
+     * @return the card's color, {@link CardColor#UNKNOWN} for wild cards
+     */
+    public static CardColor color(int id) {
+        return COLORS[id];
+    }
+
+    /**
+     * Returns the value of the given card.
+     *
+     * @param id the card id
+     * @return the card's value
+     */
+    public static CardValue value(int id) {
+        return VALUES[id];
+    }
+
+    /**
+     * Returns the kind of effect the given card triggers when played.
+     *
+     * @param id the card id
+     * @return the card's {@link EffectKind}
+     */
+    public static EffectKind effect(int id) {
+        return EFFECTS[id];
+    }
+
+    /**
+     * Checks if the given card is a wild card.
+     *
+     * @param id the card id
+     * @return true if the card can be played on top of anything
+     */
+    public static boolean isWild(int id) {
+        return VALUES[id].isWild();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.card;
+
+/**
+ * Enum {@code CardValue}
+ * <p>
+ * Represents the value printed on an UNO card: a number from 0 to 9 or one of the
+ * special actions (skip, reverse, draw two, draw four and change color).
+ * </p>
+ *
+ * @see Card
+ * @see CardId
+ */
+public enum CardValue {
+    /** Number card 0. */
+    ZERO,
+    /** Number card 1. */
+    ONE,
+    /** Number card 2. */
+    TWO,
+    /** Number card 3. */
+    THREE,
+    /** Number card 4. */
+    FOUR,
+    /** Number card 5. */
+    FIVE,
+    /** Number card 6. */
+    SIX,
+    /** Number card 7. */
+    SEVEN,
+    /** Number card 8. */
+    EIGHT,
+    /** Number card 9. */
+    NINE,
+    /** Skips the next player's turn. */
+    SKIP,
+    /** Reverses the play order (acts as a skip with two players). */
+    REVERSE,
+    /** The next player draws two cards. */
+    EAT2,
+    /** Wild card; the next player draws four cards. */
+    EAT4,
+    /** Wild card that lets the player choose a new color. */
+    NEWCOLOR;
+
+    /**
+     * Cached result of {@link #values()}, so lookups by ordinal don't copy the array.
+     */
+    private static final CardValue[] VALUES = values();
+
+    /**
+     * Returns the value with the given ordinal.
+     *
+     * @param ordinal the ordinal of the value
+     * @return the matching {@code CardValue}
+     */
+    public static CardValue fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns the number card with the given digit.
+     *
+     * @param digit a digit between 0 and 9
+     * @return the matching number value
+     */
+    public static CardValue ofDigit(int digit) {
+        return VALUES[ZERO.ordinal() + digit];
+    }
+
+    /**
+     * Checks if this value is a plain number, i.e. a card without any effect.
+     *
+     * @return true for the values {@link #ZERO} to {@link #NINE}
+     */
+    public boolean isNumber() {
+        return ordinal() <= NINE.ordinal();
+    }
+
+    /**
+     * Checks if this value belongs to a wild card, which can be played on top of anything.
+     *
+     * @return true for {@link #NEWCOLOR} and {@link #EAT4}, false otherwise
+     */
+    public boolean isWild() {
+        return this == NEWCOLOR || this == EAT4;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.eiscuno.model.card.cardEffect;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.game.GameUnoAdapter;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Carries all necessary information for applying a card's effect.
+ * <p>
+ * This class is passed as a parameter to {@link ICardEffect#applyEffect(CardEffectContext)}
+ * and contains references to:
+ * <ul>
+ *     <li>The {@link Card} being played</li>
+ *     <li>The current {@link GameUnoAdapter} instance</li>
+ *     <li>The target {@link Player} affected by the effect</li>
+ *     <li>The color to be set (used for wild cards)</li>
+ * </ul>
+ * <p>
+ * A context is mutable and meant to be reused: each game keeps one and refills it with
+ * {@link #set(Card, GameUnoAdapter, Player, CardColor)} before every effect, so playing a card
+ * does not allocate.
+ * </p>
+ *
+ * @see ICardEffect
+ * @see org.example.eiscuno.model.game.GameUnoAdapter#applyCardEffect(Card, Player, CardColor)
+ */
+public class CardEffectContext {
+    /**
+     * The card whose effect is being applied.
+     */
+    private Card card;
+    /**
+     * Reference to the active UNO game instance.
+     */
+    private GameUnoAdapter game;
+    /**
+     * The player affected by this card's effect.
+     */
+    private Player targetPlayer;
+    /**
+     * The chosen color to be applied (mainly for wild cards).
+     */
+    private CardColor color;
+
+    /**
+     * Fills this context for a new effect, replacing its previous contents.
+     *
+     * @param card         the card being played
+     * @param game         the current game instance
+     * @param targetPlayer the player affected by this card
+     * @param color        the chosen color, or {@code null} if the card is not wild
+     * @return this context
+     */
+    public CardEffectContext set(Card card, GameUnoAdapter game, Player targetPlayer, CardColor color) {
+        this.card = card;
+        this.game = game;
+        this.targetPlayer = targetPlayer;
+        this.color = color;
+        return this;
+    }
+
+    /**
+     * Drops the references held by this context once the effect has been applied.
+     */
+    public void clear() {
+        set(null, null, null, null);
+    }
+
+    /**
+     * @return the card whose effect is being applied.
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * @return the current {@link GameUnoAdapter} instance.
+     */
+    public GameUnoAdapter getGame() {
+        return game;
+    }
+
+    /**
+     * @return the player affected by this effect.
+     */
+    public Player getTargetPlayer() {
+        return targetPlayer;
+    }
+
+    /**
+     * @return the color to be set by this effect.
+     */
+    public CardColor getColor() {
+        return color;
+    }
+}
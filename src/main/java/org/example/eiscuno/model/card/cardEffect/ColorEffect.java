@@ -1,8 +1,7 @@
 package org.example.eiscuno.model.card.cardEffect;
 
 import org.example.eiscuno.model.card.Card;
-
-import java.io.Serializable;
+import org.example.eiscuno.model.card.CardColor;
 
 /**
  * Represents the effect of a "Color Change" card in the UNO game.
@@ -13,21 +12,31 @@ import java.io.Serializable;
  *
  * <p>Behavior:</p>
  * <ul>
- *     <li>Sets the color of the played card to the chosen color.</li>
- *     <li>Forces the turn to change to the next player.</li>
+ *     <li>Sets the color in play to the chosen color.</li>
  * </ul>
  *
  * @see ICardEffect
  * @see Card
  */
-public class ColorEffect implements ICardEffect, Serializable {
+public final class ColorEffect implements ICardEffect {
+    /**
+     * The shared instance of this effect. The effect keeps no state, so every card
+     * of this kind uses the same object.
+     */
+    public static final ColorEffect INSTANCE = new ColorEffect();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private ColorEffect() {
+    }
 
     /**
      * Applies the "Change Color" effect to the played card.
      * <p>
      * This method retrieves the selected color from the
-     * {@link Card.CardEffectContext} and updates the card accordingly.
-     * The game turn is then passed to the next player.
+     * {@link CardEffectContext} and makes it the game's current color.
+     * The turn is passed by the player's move, see {@link EffectKind#passesTurn()}.
      * </p>
      *
      * @param context the context of the played card, including:
@@ -39,11 +48,9 @@ public class ColorEffect implements ICardEffect, Serializable {
      *                </ul>
      */
     @Override
-    public void applyEffect(Card.CardEffectContext context) {
-        Card card = context.getCard();
-        String color = context.getColor();
-        card.setColor(color);
-        context.getGame().changeTurn();
+    public void applyEffect(CardEffectContext context) {
+        CardColor color = context.getColor();
+        context.getGame().setCurrentColor(color);
         System.out.println("Se cambio el color a: " + color);
     }
 }
@@ -2,8 +2,6 @@ package org.example.eiscuno.model.card.cardEffect;
 
 import org.example.eiscuno.model.card.Card;
 
-import java.io.Serializable;
-
 /**
  * Represents the effect of a "Draw Four" card in the UNO game.
  * <p>
@@ -15,20 +13,31 @@ import java.io.Serializable;
  * <p>Behavior:</p>
  * <ul>
  *     <li>The target player draws four cards.</li>
- *     <li>The played card's color is changed to the chosen color.</li>
+ *     <li>The game's current color is changed to the chosen color.</li>
  * </ul>
  *
  * @see ICardEffect
  * @see Card
  */
-public class DrawFourEffect implements ICardEffect, Serializable {
+public final class DrawFourEffect implements ICardEffect {
+    /**
+     * The shared instance of this effect. The effect keeps no state, so every card
+     * of this kind uses the same object.
+     */
+    public static final DrawFourEffect INSTANCE = new DrawFourEffect();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private DrawFourEffect() {
+    }
 
     /**
      * Applies the "Draw Four" effect to the targeted player.
      * <p>
      * This method forces the target player to draw four cards and then changes
-     * the color of the played card based on the chosen color in the
-     * {@link Card.CardEffectContext}.
+     * the game's current color based on the chosen color in the
+     * {@link CardEffectContext}.
      * </p>
      *
      * @param context the context of the played card, containing:
@@ -41,14 +50,10 @@ public class DrawFourEffect implements ICardEffect, Serializable {
      *                </ul>
      */
     @Override
-    public void applyEffect(Card.CardEffectContext context) {
-        try {
-            context.getGame().eatCard(context.getTargetPlayer(), 4);
-        }catch (Exception e){
-            e.printStackTrace();
-        }
+    public void applyEffect(CardEffectContext context) {
+        context.getGame().drawCards(context.getTargetPlayer(), 4);
 
-        context.getCard().setColor(context.getColor());
+        context.getGame().setCurrentColor(context.getColor());
         System.out.println(context.getTargetPlayer().getTypePlayer() + " roba 4 cartas.");
     }
 }
@@ -1,10 +1,7 @@
 package org.example.eiscuno.model.card.cardEffect;
 
-
 import org.example.eiscuno.model.card.Card;
 
-import java.io.Serializable;
-
 /**
  * Represents the effect of a "Draw Two" card in the UNO game.
  * <p>
@@ -22,7 +19,18 @@ import java.io.Serializable;
  * @see ICardEffect
  * @see Card
  */
-public class DrawTwoEffect  implements ICardEffect, Serializable {
+public final class DrawTwoEffect implements ICardEffect {
+    /**
+     * The shared instance of this effect. The effect keeps no state, so every card
+     * of this kind uses the same object.
+     */
+    public static final DrawTwoEffect INSTANCE = new DrawTwoEffect();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private DrawTwoEffect() {
+    }
 
     /**
      * Applies the "Draw Two" effect to the targeted player.
@@ -39,12 +47,8 @@ public class DrawTwoEffect  implements ICardEffect, Serializable {
      *                </ul>
      */
     @Override
-    public void applyEffect(Card.CardEffectContext context) {
-        try {
-            context.getGame().eatCard(context.getTargetPlayer(), 2);
-        }catch (Exception e){
-            e.printStackTrace();
-        }
+    public void applyEffect(CardEffectContext context) {
+        context.getGame().drawCards(context.getTargetPlayer(), 2);
         System.out.println(context.getTargetPlayer().getTypePlayer() + " roba 2 cartas.");
     }
 
@@ -0,0 +1,109 @@
+package org.example.eiscuno.model.card.cardEffect;
+
+import org.example.eiscuno.model.card.CardValue;
+
+/**
+ * Enum {@code EffectKind}
+ * <p>
+ * Classifies the effect a card triggers when played, independently of any card
+ * instance, so the classification can be computed once per card id. Each kind holds
+ * the single, stateless implementation of its effect, so dispatching an effect is a
+ * field read rather than a lookup or an allocation.
+ * </p>
+ *
+ * @see ICardEffect
+ * @see org.example.eiscuno.model.card.CardId#effect(int)
+ */
+public enum EffectKind {
+    /** Number cards, which have no effect. */
+    NONE(null, true),
+    /** Skip and reverse cards, see {@link SkipEffect}. */
+    SKIP(SkipEffect.INSTANCE, false),
+    /** Wild cards that change the color, see {@link ColorEffect}. */
+    COLOR(ColorEffect.INSTANCE, true),
+    /** Draw two cards, see {@link DrawTwoEffect}. */
+    DRAW_TWO(DrawTwoEffect.INSTANCE, false),
+    /** Wild draw four cards, see {@link DrawFourEffect}. */
+    DRAW_FOUR(DrawFourEffect.INSTANCE, false);
+
+    /**
+     * The shared implementation of this kind of effect.
+     */
+    private final ICardEffect effect;
+    /**
+     * Whether the turn passes to the opponent after a card of this kind.
+     */
+    private final boolean passesTurn;
+
+    /*
+     * Every kind but NONE must be bound to an effect. A kind left without one, for
+     * example by an effect whose instance is not initialized yet, would make its cards
+     * look like number cards, so it fails as soon as the enum is loaded.
+     */
+    static {
+        for (EffectKind kind : values()) {
+            if (kind != NONE && kind.effect == null) {
+                throw new IllegalStateException("Effect kind " + kind + " has no effect.");
+            }
+        }
+    }
+
+    /**
+     * Constructs an effect kind bound to its implementation.
+     *
+     * @param effect     the shared effect, {@code null} if the kind has no effect
+     * @param passesTurn whether the turn passes to the opponent after the card
+     */
+    EffectKind(ICardEffect effect, boolean passesTurn) {
+        this.effect = effect;
+        this.passesTurn = passesTurn;
+    }
+
+    /**
+     * Returns the kind of effect triggered by cards with the given value.
+     *
+     * @param value the value of the card
+     * @return the matching effect kind
+     */
+    public static EffectKind of(CardValue value) {
+        return switch (value) {
+            case SKIP, REVERSE -> SKIP;
+            case NEWCOLOR -> COLOR;
+            case EAT2 -> DRAW_TWO;
+            case EAT4 -> DRAW_FOUR;
+            default -> NONE;
+        };
+    }
+
+    /**
+     * Returns the effect implementation for this kind. The same instance is returned on
+     * every call and shared by every card of this kind.
+     *
+     * @return the shared {@link ICardEffect}, or {@code null} for {@link #NONE}
+     */
+    public ICardEffect getEffect() {
+        return effect;
+    }
+
+    /**
+     * Checks if the turn passes to the opponent after a card of this kind is played.
+     * Skip and draw cards let the same player play again; effects never change the turn
+     * themselves, the player's move does it when it is committed.
+     *
+     * @return true if the turn passes to the opponent
+     */
+    public boolean passesTurn() {
+        return passesTurn;
+    }
+
+    /**
+     * Applies this kind of effect, doing nothing for {@link #NONE}.
+     *
+     * @param context the context of the played card
+     */
+    public void apply(CardEffectContext context) {
+        if (effect != null) {
+            effect.applyEffect(context);
+        }
+    }
+}
@@ -10,13 +10,18 @@ import org.example.eiscuno.model.card.Card;
  * to implement its unique behavior when played.
  * </p>
  *
+ * <p>Implementations must be stateless: a single instance of each effect is shared by
+ * every card and every game, and everything an application needs is read from the
+ * {@link CardEffectContext}.</p>
+ *
  * <p>Usage example:</p>
  * <pre>
- *     ICardEffect effect = new DrawTwoEffect();
- *     effect.applyEffect(context);
+ *     ICardEffect effect = EffectKind.DRAW_TWO.getEffect();
+ *     effect.applyEffect(context.set(card, game, target, null));
  * </pre>
  *
- * @see Card.CardEffectContext
+ * @see CardEffectContext
+ * @see EffectKind
  * @see Card
  */
 public interface ICardEffect {
@@ -34,5 +39,5 @@ public interface ICardEffect {
      *                    <li>The game state in which the effect is executed.</li>
      *                </ul>
      */
-    void applyEffect(Card.CardEffectContext context);
+    void applyEffect(CardEffectContext context);
 }
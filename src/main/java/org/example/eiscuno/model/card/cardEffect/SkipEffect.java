@@ -2,8 +2,6 @@ package org.example.eiscuno.model.card.cardEffect;
 
 import org.example.eiscuno.model.card.Card;
 
-import java.io.Serializable;
-
 /**
  * Represents the effect of a "Skip" card in the UNO game.
  * <p>
@@ -13,14 +11,25 @@ import java.io.Serializable;
  *
  * <p>Example usage:</p>
  * <pre>
- *     ICardEffect skipEffect = new SkipEffect();
+ *     ICardEffect skipEffect = SkipEffect.INSTANCE;
  *     skipEffect.applyEffect(context);
  * </pre>
  *
  * @see ICardEffect
- * @see Card.CardEffectContext
+ * @see CardEffectContext
  */
-public class SkipEffect implements ICardEffect, Serializable {
+public final class SkipEffect implements ICardEffect {
+    /**
+     * The shared instance of this effect. The effect keeps no state, so every card
+     * of this kind uses the same object.
+     */
+    public static final SkipEffect INSTANCE = new SkipEffect();
+
+    /**
+     * Use {@link #INSTANCE}.
+     */
+    private SkipEffect() {
+    }
 
     /**
      * Applies the "Skip" effect to the target player.
@@ -36,7 +45,7 @@ public class SkipEffect implements ICardEffect, Serializable {
      *                </ul>
      */
     @Override
-    public void applyEffect(Card.CardEffectContext context) {
+    public void applyEffect(CardEffectContext context) {
         System.out.println("¡Turno saltado para " + context.getTargetPlayer().getTypePlayer() + "!");
     }
 
@@ -1,168 +1,97 @@
 package org.example.eiscuno.model.deck;
 
-import org.example.eiscuno.listener.GameOverListener;
 import org.example.eiscuno.model.card.*;
-import org.example.eiscuno.model.card.cardEffect.ColorEffect;
-import org.example.eiscuno.model.card.cardEffect.DrawFourEffect;
-import org.example.eiscuno.model.card.cardEffect.DrawTwoEffect;
-import org.example.eiscuno.model.card.cardEffect.SkipEffect;
 import org.example.eiscuno.model.exceptions.EmptyDeck;
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.player.Hand;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.Stack;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the Uno deck used during the game.
  * <p>
- * The {@code Deck} is initialized with cards based on {@link EISCUnoEnum} values,
- * each associated with an effect when applicable.
+ * The {@code Deck} is initialized from the {@link DeckTemplate}, which lists the cards
+ * of a full deck and the effect of each one.
  * </p>
  *
- * <p>This class manages shuffling, drawing, and viewing cards, and
- * notifies listeners when the deck runs out of cards.</p>
+ * <p>Cards are kept as their compact {@link CardId ids} in a fixed array with a cursor
+ * marking the top of the deck, so drawing, peeking and shuffling never allocate and
+ * never take a lock. The {@link Card} objects are the shared flyweights returned by
+ * {@link Card#of(int)}, so a deck owns nothing but its id array.</p>
+ *
+ * <p>This class manages shuffling, drawing, and viewing cards.</p>
+ *
+ * <p>Running out of cards is part of a normal game, so the game loop uses the
+ * non-throwing methods: {@link #takeCardId()} and {@link #peekCardId()} return
+ * {@link CardId#NONE} on an empty deck, and {@link #drawInto(Hand, int)} returns how many
+ * cards it could draw. {@link #takeCard()} and {@link #viewCard()} throw {@link EmptyDeck}
+ * on top of them.</p>
  *
  * @see Card
  * @see EmptyDeck
- * @see GameOverListener
  */
 public class Deck implements Serializable{
     /**
-     * Stack representing the deck of cards in play.
+     * Ids of the cards in the deck; the top of the deck is at {@code deckOfCards[size - 1]}.
      */
-    private Stack<Card> deckOfCards;
+    private final byte[] deckOfCards;
     /**
-     * Listener to be notified when the game ends due to an empty deck.
+     * Number of cards left in the deck, which is also the cursor to the top card.
      */
-    private transient GameOverListener gameOverListener;
+    private int size;
+    /**
+     * Random generator used to shuffle the deck. Recreated after deserialization.
+     */
+    private transient RandomGenerator random;
 
     /**
      * Constructs a new deck of Uno cards and initializes it.
      */
     public Deck() {
-        deckOfCards = new Stack<>();
-        initializeDeck();
-    }
-
-    /**
-     * Return the full deck of cards for testing purposes
-     * @return the deck of cards
-     */
-    Stack<Card> getDeckOfCards() {
-        return deckOfCards;
-    }
-
-    /**
-     * Initializes the deck with all cards defined in {@link EISCUnoEnum},
-     * assigning the appropriate effect (e.g., {@link SkipEffect}, {@link DrawTwoEffect})
-     * where necessary.
-     */
-    private void initializeDeck() {
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().startsWith("GREEN_") ||
-                    cardEnum.name().startsWith("YELLOW_") ||
-                    cardEnum.name().startsWith("BLUE_") ||
-                    cardEnum.name().startsWith("RED_") ||
-                    cardEnum.name().startsWith("SKIP_") ||
-                    cardEnum.name().startsWith("RESERVE_") ||
-                    cardEnum.name().startsWith("TWO_WILD_DRAW_") ||
-                    cardEnum.name().equals("FOUR_WILD_DRAW") ||
-                    cardEnum.name().equals("WILD")) {
-                Card card = new Card(cardEnum.getFilePath(), getCardValue(cardEnum.name()), getCardColor(cardEnum.name()));
-            if (card.getValue() != null) {
-                switch (card.getValue()) {
-                    case "REVERSE", "SKIP":
-                        card.setEffect(new SkipEffect());
-                        break;
-                    case "NEWCOLOR":
-                        card.setEffect(new ColorEffect());
-                        break;
-                    case "EAT2":
-                        card.setEffect(new DrawTwoEffect());
-                        break;
-                    case "EAT4":
-                        card.setEffect(new DrawFourEffect());
-                        break;
-                }
-            } else {
-                System.out.println("Invalid card value");
-            }
-            deckOfCards.push(card);
-        }
-        Collections.shuffle(deckOfCards);
+        this(new SplittableRandom());
     }
-}
 
     /**
-     * Extracts the value of a card from its name representation.
+     * Constructs a new deck of Uno cards shuffled with the given random generator.
      *
-     * @param name the enum name of the card
-     * @return the card's value (number, SKIP, REVERSE, EAT2, EAT4, NEWCOLOR, etc.)
-     */
-    private String getCardValue(String name) {
-        if (name.endsWith("0")){
-            return "0";
-        } else if (name.endsWith("1")){
-            return "1";
-        } else if (name.endsWith("2")){
-            return "2";
-        } else if (name.endsWith("3")){
-            return "3";
-        } else if (name.endsWith("4")){
-            return "4";
-        } else if (name.endsWith("5")){
-            return "5";
-        } else if (name.endsWith("6")){
-            return "6";
-        } else if (name.endsWith("7")){
-            return "7";
-        } else if (name.endsWith("8")){
-            return "8";
-        } else if (name.endsWith("9")){
-            return "9";   //VALORES PARA CONTROLAR MAS FACIL LOS CONDICIONALES DE ESTAS CARTAS ESPECIALES
-        } else if (name.startsWith("TWO_WILD_DRAW")) {
-            return "EAT2";//comer 2
-        } else if (name.startsWith("WILD")) {
-            return "NEWCOLOR";//cambiar color
-        } else if (name.startsWith("RESERVE")) {
-            return "REVERSE"; //reverse card
-        } else if (name.startsWith("SKIP")) {
-            return "SKIP";//bloquear turno
-        } else if (name.startsWith("FOUR_WILD_DRAW")) {
-            return "EAT4"; //comer 4
-        } else {
-            return "UNKNOWN";
-        }
+     * @param random the generator used for every shuffle of this deck
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        this.deckOfCards = new byte[DeckTemplate.size()];
+        reset();
+    }
 
+    /**
+     * Puts every card of this deck back in it and shuffles it.
+     * <p>
+     * No card objects are created: the template ids are copied over the id array.
+     * </p>
+     */
+    public void reset() {
+        size = DeckTemplate.copyCardIds(deckOfCards);
+        shuffle();
     }
 
     /**
-     * Extracts the color of a card from its name representation.
+     * Puts the given cards back under the deck and shuffles it.
+     * <p>
+     * The cards are given as a mask of card ids (see
+     * {@link org.example.eiscuno.model.table.Table#drainUnderTop()}), so recycling the
+     * discard pile only writes ids into the array.
+     * </p>
      *
-     * @param name the enum name of the card
-     * @return the card's color (GREEN, YELLOW, BLUE, RED, UNKNOWN)
-     */
-    private String getCardColor(String name){
-        if(name.startsWith("GREEN")){
-            return "GREEN";
-        } else if(name.startsWith("YELLOW")){
-            return "YELLOW";
-        } else if(name.startsWith("BLUE")){
-            return "BLUE";
-        } else if(name.startsWith("RED")) {
-            return "RED";
-        } else if (name.endsWith("GREEN")) {
-            return "GREEN";
-        } else if (name.endsWith("YELLOW")) {
-            return "YELLOW";
-        } else if (name.endsWith("BLUE")) {
-            return "BLUE";
-        } else if (name.endsWith("RED")) {
-            return "RED";
-        } else {
-            return "UNKNOWN";
+     * @param cardMask mask with the bit of every card id to put back set
+     */
+    public void refill(long cardMask) {
+        long remaining = cardMask;
+        while (remaining != 0) {
+            int id = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            deckOfCards[size++] = (byte) id;
         }
+        shuffle();
     }
 
     /**
@@ -172,14 +101,69 @@ public class Deck implements Serializable{
      * @throws EmptyDeck if the deck is empty
      */
     public Card takeCard() throws EmptyDeck {
-        if (deckOfCards.isEmpty()) {
+        int id = takeCardId();
+        if (id == CardId.NONE) {
+            throw new EmptyDeck("No hay más cartas en el mazo");
+        }
+        return Card.of(id);
+    }
 
-            if (gameOverListener != null) {
-                gameOverListener.onGameOver();
+    /**
+     * Takes a card from the top of the deck, without throwing when there is none.
+     *
+     * @return the id of the card taken, or {@link CardId#NONE} if the deck is empty
+     */
+    public int takeCardId() {
+        return size == 0 ? CardId.NONE : deckOfCards[--size];
+    }
+
+    /**
+     * Moves up to {@code numberOfCards} cards from the top of the deck to the end of a
+     * hand, in the order they would be taken one by one. The hand's listeners are
+     * notified once for the whole draw.
+     *
+     * @param hand          the hand receiving the cards
+     * @param numberOfCards the number of cards wanted
+     * @return the number of cards actually drawn, less than wanted if the deck ran out
+     */
+    public int drawInto(Hand hand, int numberOfCards) {
+        int drawn = Math.min(Math.max(numberOfCards, 0), size);
+        if (drawn == 0) {
+            return 0;
+        }
+        int from = size - drawn;
+        // The top card goes first: reverse the slice leaving the deck, which is free to reuse
+        for (int i = from, j = size - 1; i < j; i++, j--) {
+            byte id = deckOfCards[i];
+            deckOfCards[i] = deckOfCards[j];
+            deckOfCards[j] = id;
+        }
+        size = from;
+        hand.addIds(deckOfCards, from, drawn);
+        return drawn;
+    }
+
+    /**
+     * Takes the topmost card without an effect (a number card) from the deck.
+     * <p>
+     * The card found is swapped with the top of the deck instead of reshuffling the
+     * whole deck until a number card comes up. Most cards are number cards, so the
+     * search almost always stops after one or two positions.
+     * </p>
+     *
+     * @return the topmost number card of the deck
+     * @throws EmptyDeck if the deck has no number card left
+     */
+    public Card takeFirstNumberCard() throws EmptyDeck {
+        for (int i = size - 1; i >= 0; i--) {
+            if (CardId.value(deckOfCards[i]).isNumber()) {
+                byte id = deckOfCards[i];
+                deckOfCards[i] = deckOfCards[size - 1];
+                deckOfCards[size - 1] = id;
+                return takeCard();
             }
-            throw new EmptyDeck("No hay más cartas en el mazo");
         }
-        return deckOfCards.pop();
+        throw new EmptyDeck("No hay cartas numéricas en el mazo");
     }
 
     /**
@@ -189,32 +173,57 @@ public class Deck implements Serializable{
      * @throws EmptyDeck if the deck is empty
      */
     public Card viewCard() throws EmptyDeck{
-        if (deckOfCards.isEmpty()) {
+        int id = peekCardId();
+        if (id == CardId.NONE) {
             throw new EmptyDeck("No hay más cartas en el mazo");
         }
 
-        return deckOfCards.peek();
+        return Card.of(id);
+    }
+
+    /**
+     * Shows the card at the top of the deck without taking it, without throwing when
+     * there is none.
+     *
+     * @return the id of the top card, or {@link CardId#NONE} if the deck is empty
+     */
+    public int peekCardId() {
+        return size == 0 ? CardId.NONE : deckOfCards[size - 1];
     }
 
     /**
-     * Randomly shuffles the deck.
+     * Randomly shuffles the deck in place (Fisher–Yates).
      */
     public void shuffle(){
-        Collections.shuffle(deckOfCards);
+        RandomGenerator random = random();
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte id = deckOfCards[i];
+            deckOfCards[i] = deckOfCards[j];
+            deckOfCards[j] = id;
+        }
     }
 
     /**
-     * Sets the listener that will be notified when the game ends.
-     * <p>
-     * This method allows the controller or other components to be informed when the game reaches
-     * a terminal state (e.g., no more cards in the deck or a player wins).
-     * This listener will trigger visual updates such as showing a game-over alert.
-     * </p>
+     * Returns the random generator of this deck, creating a default one if it was lost
+     * during serialization.
+     *
+     * @return the random generator used to shuffle
+     */
+    private RandomGenerator random() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
+    /**
+     * Replaces the random generator used to shuffle this deck.
      *
-     * @param gameOverListener the listener to be notified when the game ends
+     * @param random the new random generator
      */
-    public void setGameOverListener(GameOverListener gameOverListener) {
-        this.gameOverListener = gameOverListener;
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
     }
 
     /**
@@ -223,6 +232,42 @@ public class Deck implements Serializable{
      * @return true if the deck is empty, false otherwise
      */
     public boolean isEmpty() {
-        return deckOfCards.isEmpty();
+        return size == 0;
+    }
+
+    /**
+     * Copies the ids of the cards left in the deck, from the bottom to the top.
+     *
+     * @param target array receiving the ids; must hold at least {@link #size()} entries
+     * @return the number of ids copied
+     */
+    public int copyCardIds(byte[] target) {
+        System.arraycopy(deckOfCards, 0, target, 0, size);
+        return size;
+    }
+
+    /**
+     * Replaces the cards of the deck with the given ones, in the same order, without
+     * shuffling. Used to restore a saved deck.
+     *
+     * @param ids   the card ids, from the bottom to the top of the deck
+     * @param count the number of ids to take from the array
+     * @throws IllegalArgumentException if there are more cards than a deck holds
+     */
+    public void restoreCardIds(byte[] ids, int count) {
+        if (count < 0 || count > deckOfCards.length) {
+            throw new IllegalArgumentException("A deck can not hold " + count + " cards.");
+        }
+        System.arraycopy(ids, 0, deckOfCards, 0, count);
+        size = count;
+    }
+
+    /**
+     * Returns the number of cards left in the deck.
+     *
+     * @return the number of cards that can still be taken
+     */
+    public int size() {
+        return size;
     }
 }
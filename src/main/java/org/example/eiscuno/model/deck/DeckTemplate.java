@@ -0,0 +1,62 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Arrays;
+
+/**
+ * Class {@code DeckTemplate}
+ * <p>
+ * Immutable description of a full UNO deck, computed once when the class is loaded.
+ * It holds the ids of the cards that make up a deck; the value, color and effect of
+ * each id come from the {@link CardId} lookup tables.
+ * </p>
+ *
+ * <p>A {@link Deck} never classifies {@link EISCUnoEnum} constants itself: creating or
+ * resetting one is a copy of {@link #copyCardIds(byte[]) the template ids}.</p>
+ *
+ * @see Deck
+ * @see CardId
+ */
+public final class DeckTemplate {
+    /** Ids of every card of a full deck, in asset order. */
+    private static final byte[] CARD_IDS;
+
+    static {
+        byte[] cardIds = new byte[CardId.COUNT];
+        int cards = 0;
+        for (int id = 0; id < CardId.COUNT; id++) {
+            if (CardId.isCard(id)) {
+                cardIds[cards++] = (byte) id;
+            }
+        }
+        CARD_IDS = Arrays.copyOf(cardIds, cards);
+    }
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private DeckTemplate() {
+    }
+
+    /**
+     * Returns the number of cards in a full deck.
+     *
+     * @return the number of cards in the template
+     */
+    public static int size() {
+        return CARD_IDS.length;
+    }
+
+    /**
+     * Copies the ids of a full deck into the beginning of the given array.
+     *
+     * @param target array of at least {@link #size()} elements
+     * @return the number of ids copied
+     */
+    public static int copyCardIds(byte[] target) {
+        System.arraycopy(CARD_IDS, 0, target, 0, CARD_IDS.length);
+        return CARD_IDS.length;
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.game.GameStateEnum;
+import org.example.eiscuno.model.game.TurnEnum;
+
+/**
+ * Class {@code GameEvent}
+ * <p>
+ * Immutable record of something that happened in a game, published to external
+ * subscribers such as loggers, analytics or spectators. Players are identified by their
+ * seat, {@link TurnEnum#PLAYER} for the human and {@link TurnEnum#MACHINE} for the
+ * machine, and cards by their {@link CardId}, so an event holds no reference to the
+ * live game.
+ * </p>
+ *
+ * @see GameEventEnum
+ * @see GameEventPublisher
+ */
+public final class GameEvent {
+    /** What happened. */
+    private final GameEventEnum type;
+    /** Number of moves committed when the event happened. */
+    private final long moveNumber;
+    /** The player the event is about, {@code null} if none. */
+    private final TurnEnum player;
+    /** The card played, {@link CardId#NONE} if the event is not about a card. */
+    private final int cardId;
+    /** The number of cards drawn, 0 if the event is not about drawing. */
+    private final int count;
+    /** The color chosen, {@code null} if the event is not about a color. */
+    private final CardColor color;
+    /** The final state of the game, {@code null} unless the game ended. */
+    private final GameStateEnum state;
+
+    /**
+     * Constructs an event. Use the static factories instead.
+     *
+     * @param type       what happened
+     * @param moveNumber number of moves committed
+     * @param player     the player the event is about
+     * @param cardId     the card played
+     * @param count      the number of cards drawn
+     * @param color      the color chosen
+     * @param state      the final state of the game
+     */
+    private GameEvent(GameEventEnum type, long moveNumber, TurnEnum player, int cardId,
+                      int count, CardColor color, GameStateEnum state) {
+        this.type = type;
+        this.moveNumber = moveNumber;
+        this.player = player;
+        this.cardId = cardId;
+        this.count = count;
+        this.color = color;
+        this.state = state;
+    }
+
+    /**
+     * Creates the event of a card placed on the table.
+     *
+     * @param moveNumber number of moves committed
+     * @param player     the player who played it, {@code null} for the first card of the game
+     * @param cardId     the card played
+     * @return the event
+     */
+    public static GameEvent cardPlayed(long moveNumber, TurnEnum player, int cardId) {
+        return new GameEvent(GameEventEnum.CARD_PLAYED, moveNumber, player, cardId, 0, null, null);
+    }
+
+    /**
+     * Creates the event of a player drawing cards.
+     *
+     * @param moveNumber number of moves committed
+     * @param player     the player who drew
+     * @param count      the number of cards drawn
+     * @return the event
+     */
+    public static GameEvent cardsDrawn(long moveNumber, TurnEnum player, int count) {
+        return new GameEvent(GameEventEnum.CARDS_DRAWN, moveNumber, player, CardId.NONE, count, null, null);
+    }
+
+    /**
+     * Creates the event of a player choosing the color of a wild card.
+     *
+     * @param moveNumber number of moves committed
+     * @param player     the player who chose
+     * @param color      the color chosen
+     * @return the event
+     */
+    public static GameEvent colorChosen(long moveNumber, TurnEnum player, CardColor color) {
+        return new GameEvent(GameEventEnum.COLOR_CHOSEN, moveNumber, player, CardId.NONE, 0, color, null);
+    }
+
+    /**
+     * Creates the event of a player calling "UNO".
+     *
+     * @param moveNumber number of moves committed
+     * @param player     the player who called
+     * @return the event
+     */
+    public static GameEvent unoCalled(long moveNumber, TurnEnum player) {
+        return new GameEvent(GameEventEnum.UNO_CALLED, moveNumber, player, CardId.NONE, 0, null, null);
+    }
+
+    /**
+     * Creates the event of a player penalized for not calling "UNO".
+     *
+     * @param moveNumber number of moves committed
+     * @param player     the player penalized
+     * @return the event
+     */
+    public static GameEvent unoMissed(long moveNumber, TurnEnum player) {
+        return new GameEvent(GameEventEnum.UNO_MISSED, moveNumber, player, CardId.NONE, 0, null, null);
+    }
+
+    /**
+     * Creates the event of the end of the game.
+     *
+     * @param moveNumber number of moves committed
+     * @param state      how the game ended
+     * @return the event
+     */
+    public static GameEvent gameOver(long moveNumber, GameStateEnum state) {
+        return new GameEvent(GameEventEnum.GAME_OVER, moveNumber, null, CardId.NONE, 0, null, state);
+    }
+
+    /**
+     * @return what happened
+     */
+    public GameEventEnum getType() {
+        return type;
+    }
+
+    /**
+     * @return the number of moves committed when the event happened
+     */
+    public long getMoveNumber() {
+        return moveNumber;
+    }
+
+    /**
+     * @return the player the event is about, {@code null} if none
+     */
+    public TurnEnum getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return the card played, {@link CardId#NONE} unless the event is {@link GameEventEnum#CARD_PLAYED}
+     */
+    public int getCardId() {
+        return cardId;
+    }
+
+    /**
+     * @return the number of cards drawn, 0 unless the event is {@link GameEventEnum#CARDS_DRAWN}
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the color chosen, {@code null} unless the event is {@link GameEventEnum#COLOR_CHOSEN}
+     */
+    public CardColor getColor() {
+        return color;
+    }
+
+    /**
+     * @return how the game ended, {@code null} unless the event is {@link GameEventEnum#GAME_OVER}
+     */
+    public GameStateEnum getState() {
+        return state;
+    }
+
+    /**
+     * Returns a readable description of the event, for logs.
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder().append('#').append(moveNumber).append(' ').append(type);
+        if (player != null) {
+            text.append(' ').append(player);
+        }
+        switch (type) {
+            case CARD_PLAYED -> text.append(' ').append(CardId.asset(cardId));
+            case CARDS_DRAWN -> text.append(' ').append(count);
+            case COLOR_CHOSEN -> text.append(' ').append(color);
+            case GAME_OVER -> text.append(' ').append(state);
+            default -> { }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.eiscuno.model.event;
+
+/**
+ * Enum {@code GameEventEnum}
+ * <p>
+ * The kinds of {@link GameEvent} a game publishes to its subscribers.
+ * </p>
+ *
+ * @see GameEventPublisher
+ */
+public enum GameEventEnum {
+    /** A card was placed on the table, see {@link GameEvent#getCardId()}. */
+    CARD_PLAYED,
+    /** A player drew cards from the deck, see {@link GameEvent#getCount()}. */
+    CARDS_DRAWN,
+    /** A player chose the color of a wild card, see {@link GameEvent#getColor()}. */
+    COLOR_CHOSEN,
+    /** A player called "UNO" in time. */
+    UNO_CALLED,
+    /** A player forgot to call "UNO" and drew a penalty card. */
+    UNO_MISSED,
+    /** The game ended, see {@link GameEvent#getState()}. */
+    GAME_OVER
+}
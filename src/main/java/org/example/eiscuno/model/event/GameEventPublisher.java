@@ -0,0 +1,126 @@
+package org.example.eiscuno.model.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Class {@code GameEventPublisher}
+ * <p>
+ * Live stream of the {@link GameEvent}s of a game, for subscribers outside the UI such as
+ * loggers, analytics or spectators. It is a {@link Flow.Publisher} built on a
+ * {@link SubmissionPublisher}: every subscriber gets its own bounded buffer, drained on
+ * the given executor, and requests events at its own pace.
+ * </p>
+ *
+ * <p>Publishing never waits for a slow subscriber longer than the {@link OverflowPolicyEnum}
+ * allows: once a subscriber's buffer is full, the event is dropped for that subscriber,
+ * right away or after the block timeout, and counted in {@link #getDroppedCount()}.
+ * When nobody is subscribed, publishing costs a single check.</p>
+ *
+ * @see org.example.eiscuno.model.game.GameUnoAdapter#getEventPublisher()
+ */
+public final class GameEventPublisher implements Flow.Publisher<GameEvent>, AutoCloseable {
+    /** Number of events each subscriber can have waiting, unless given otherwise. */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+    /** Longest time, in milliseconds, {@link OverflowPolicyEnum#BLOCK} waits, unless given otherwise. */
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 50;
+
+    /** The publisher holding the subscribers and their buffers. */
+    private final SubmissionPublisher<GameEvent> publisher;
+    /** What happens when a subscriber's buffer is full. */
+    private final OverflowPolicyEnum overflowPolicy;
+    /** Longest time, in milliseconds, publishing waits under {@link OverflowPolicyEnum#BLOCK}. */
+    private final long blockTimeoutMillis;
+    /** Number of events dropped, over every subscriber. */
+    private final LongAdder dropped = new LongAdder();
+    /** Counts a dropped event and never retries it. */
+    private final BiPredicate<Flow.Subscriber<? super GameEvent>, GameEvent> onDrop = (subscriber, event) -> {
+        dropped.increment();
+        return false;
+    };
+
+    /**
+     * Constructs a publisher delivering events on the common pool, with buffers of
+     * {@link #DEFAULT_BUFFER_CAPACITY} events that drop events on overflow.
+     */
+    public GameEventPublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY, OverflowPolicyEnum.DROP, DEFAULT_BLOCK_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a publisher.
+     *
+     * @param executor           executor the subscribers are called on
+     * @param bufferCapacity     number of events each subscriber can have waiting
+     * @param overflowPolicy     what happens when a subscriber's buffer is full
+     * @param blockTimeoutMillis longest time {@link OverflowPolicyEnum#BLOCK} waits for room
+     */
+    public GameEventPublisher(Executor executor, int bufferCapacity, OverflowPolicyEnum overflowPolicy,
+                              long blockTimeoutMillis) {
+        this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+    }
+
+    /**
+     * Adds a subscriber. It receives the events published from now on, as it requests them.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Checks if anybody is subscribed. Callers can skip building events when nobody is.
+     *
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    /**
+     * Publishes an event to every subscriber, applying the overflow policy to those whose
+     * buffer is full. Does nothing once the publisher is closed.
+     *
+     * @param event the event to publish
+     */
+    public void publish(GameEvent event) {
+        if (publisher.isClosed() || !publisher.hasSubscribers()) {
+            return;
+        }
+        try {
+            if (overflowPolicy == OverflowPolicyEnum.BLOCK) {
+                publisher.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS, onDrop);
+            } else {
+                publisher.offer(event, onDrop);
+            }
+        } catch (IllegalStateException e) {
+            // Closed concurrently: the event has nobody left to go to.
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because a subscriber's buffer was full.
+     *
+     * @return the number of events dropped, over every subscriber
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Completes every subscriber after the events already buffered. Later events are ignored.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.eiscuno.model.event;
+
+/**
+ * Enum {@code OverflowPolicyEnum}
+ * <p>
+ * Decides what a {@link GameEventPublisher} does with an event when the buffer of a
+ * subscriber is full because it consumes events slower than the game produces them.
+ * Either way, the game never waits indefinitely for a subscriber.
+ * </p>
+ *
+ * @see GameEventPublisher
+ */
+public enum OverflowPolicyEnum {
+    /**
+     * The event is dropped for that subscriber right away; other subscribers still get it.
+     */
+    DROP,
+    /**
+     * The game waits up to the publisher's block timeout for room in the buffer, and
+     * drops the event for that subscriber if there is still none.
+     */
+    BLOCK
+}
@@ -0,0 +1,23 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Enum {@code DeckEmptyPolicyEnum}
+ * <p>
+ * Decides what a game does when a player has to draw and the deck has run out of cards.
+ * </p>
+ *
+ * @see GameUnoAdapter#setDeckEmptyPolicy(DeckEmptyPolicyEnum)
+ * @see GameStateEnum#DECK_EMPTY
+ */
+public enum DeckEmptyPolicyEnum {
+    /**
+     * The game ends with {@link GameStateEnum#DECK_EMPTY} as soon as the deck is empty.
+     */
+    END_GAME,
+    /**
+     * Every card on the table except the top one is shuffled back into the deck and the
+     * game goes on. The game only ends with {@link GameStateEnum#DECK_EMPTY} when there
+     * is nothing left to recycle.
+     */
+    RESHUFFLE_DISCARDS
+}
@@ -0,0 +1,200 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.listener.GameSnapshotListener;
+import org.example.eiscuno.model.event.GameEvent;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class {@code GameActor}
+ * <p>
+ * Single writer of a game. Every change to the game, its players, deck and table is
+ * submitted as a {@link GameCommand} to the actor's mailbox, a lock-free queue any
+ * thread can add to. One task at a time drains the mailbox on the given executor, so
+ * commands never run concurrently and need no locks.
+ * </p>
+ *
+ * <p>After each batch of commands the actor publishes a new {@link GameSnapshot},
+ * which readers on other threads use instead of the live game. The futures returned by
+ * {@link #submit(GameCommand)} complete after that snapshot is published. The first
+ * snapshot of an ended game is also published as a game-over {@link GameEvent}.</p>
+ *
+ * @see GameCommand
+ * @see GameSnapshot
+ * @see GameRuntime#executor()
+ */
+public final class GameActor {
+    /** Largest number of commands applied before a new snapshot is published. */
+    private static final int BATCH_SIZE = 64;
+
+    /** The game this actor owns. */
+    private final GameUno game;
+    /** Executor the mailbox is drained on. */
+    private final Executor executor;
+    /** Commands waiting to be applied. */
+    private final Queue<Envelope> mailbox = new ConcurrentLinkedQueue<>();
+    /** Set while a drain task is scheduled or running. */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    /** The latest published snapshot. */
+    private volatile GameSnapshot snapshot;
+    /** Number of commands applied so far; only touched by the draining thread. */
+    private long version;
+    /** The thread draining the mailbox, {@code null} when idle. */
+    private volatile Thread drainer;
+    /** Listener notified of every published snapshot. */
+    private volatile GameSnapshotListener snapshotListener;
+    /** Whether the end of the game was already published as a {@link GameEvent}. */
+    private boolean gameOverPublished;
+
+    /**
+     * Constructs the actor of a game. The game must not be modified by anybody else
+     * from now on.
+     *
+     * @param game     the game to own
+     * @param executor executor the mailbox is drained on
+     */
+    public GameActor(GameUno game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+        this.snapshot = game.createSnapshot(0);
+    }
+
+    /**
+     * Queues a command. It is applied after every command submitted before it.
+     * A command submitted from inside another command of this actor is queued too,
+     * never run inline.
+     *
+     * @param command the command to apply
+     * @return a future completed once the command was applied and the resulting
+     * snapshot published, or completed exceptionally if the command failed
+     */
+    public CompletableFuture<Void> submit(GameCommand command) {
+        Envelope envelope = new Envelope(command);
+        mailbox.add(envelope);
+        schedule();
+        return envelope.result;
+    }
+
+    /**
+     * Returns the latest published snapshot of the game.
+     *
+     * @return an immutable copy of the game state
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sets the listener to be notified every time a new snapshot is published.
+     *
+     * @param snapshotListener the listener to notify
+     */
+    public void setSnapshotListener(GameSnapshotListener snapshotListener) {
+        this.snapshotListener = snapshotListener;
+    }
+
+    /**
+     * Checks if the calling thread is the one applying commands, i.e. if the caller is
+     * inside a command.
+     *
+     * @return true if called from a command of this actor
+     */
+    public boolean isActorThread() {
+        return drainer == Thread.currentThread();
+    }
+
+    /**
+     * Schedules a drain task unless one is already scheduled or running.
+     */
+    private void schedule() {
+        if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                rejectAll(e);
+            }
+        }
+    }
+
+    /**
+     * Applies up to {@link #BATCH_SIZE} commands, publishes the snapshot, completes their
+     * futures and reschedules itself if more commands arrived meanwhile.
+     */
+    private void drain() {
+        Envelope[] batch = new Envelope[BATCH_SIZE];
+        int count = 0;
+        drainer = Thread.currentThread();
+        try {
+            Envelope envelope;
+            while (count < BATCH_SIZE && (envelope = mailbox.poll()) != null) {
+                batch[count++] = envelope;
+                try {
+                    envelope.command.execute(game);
+                } catch (Throwable t) {
+                    envelope.failure = t;
+                }
+                version++;
+            }
+            snapshot = game.createSnapshot(version);
+            if (!snapshot.isOngoing() && !gameOverPublished) {
+                gameOverPublished = true;
+                game.publishEvent(GameEvent.gameOver(snapshot.getMoveNumber(), snapshot.getState()));
+            }
+            GameSnapshotListener listener = snapshotListener;
+            if (listener != null) {
+                listener.onSnapshotPublished(snapshot);
+            }
+        } finally {
+            drainer = null;
+            scheduled.set(false);
+            for (int i = 0; i < count; i++) {
+                Envelope done = batch[i];
+                if (done.failure == null) {
+                    done.result.complete(null);
+                } else {
+                    done.result.completeExceptionally(done.failure);
+                }
+            }
+            schedule();
+        }
+    }
+
+    /**
+     * Fails every queued command because the mailbox can no longer be drained.
+     *
+     * @param cause why the commands are rejected
+     */
+    private void rejectAll(RejectedExecutionException cause) {
+        Envelope envelope;
+        while ((envelope = mailbox.poll()) != null) {
+            envelope.result.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * A queued command with the future of its result.
+     */
+    private static final class Envelope {
+        /** The command to apply. */
+        private final GameCommand command;
+        /** Completed once the command was applied. */
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        /** Error thrown by the command, {@code null} if it succeeded. */
+        private Throwable failure;
+
+        /**
+         * Wraps a command.
+         *
+         * @param command the command to apply
+         */
+        private Envelope(GameCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * A change to the state of a game, run by its {@link GameActor}.
+ * <p>
+ * Commands are executed one at a time, on the actor's thread, so they can read and
+ * modify the game, its players, deck and table freely. They must not block waiting for
+ * another command of the same game.
+ * </p>
+ *
+ * @see GameActor#submit(GameCommand)
+ */
+@FunctionalInterface
+public interface GameCommand {
+    /**
+     * Applies this command to the game.
+     *
+     * @param game the game being modified
+     * @throws Exception if the command fails; the failure is reported to whoever submitted it
+     */
+    void execute(GameUno game) throws Exception;
+}
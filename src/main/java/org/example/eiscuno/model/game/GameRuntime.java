@@ -0,0 +1,229 @@
+package org.example.eiscuno.model.game;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Class {@code GameRuntime}
+ * <p>
+ * Owns all the background work of one game session: the tasks started with
+ * {@link #start(Runnable)} and the resources registered with {@link #own(AutoCloseable)}.
+ * A single {@link #shutdown()} cancels every task, interrupting it, and closes every
+ * resource, so nothing started for a game outlives it. Closing a resource may wait for
+ * I/O, like the last save being written, so the FX thread uses
+ * {@link #shutdownAsync()}, which closes them in the background.
+ * </p>
+ *
+ * <p>If a task fails, the whole runtime is shut down and the error is reported to the
+ * listener set with {@link #setErrorListener(Consumer)}. Tasks run on daemon threads
+ * taken from a pool shared by every runtime, so idle threads are reused by the next
+ * game instead of being created again. The factory those threads come from is the only
+ * place that needs to change to run the tasks on virtual threads.</p>
+ *
+ * @see UnoCallEnforcer
+ * @see org.example.eiscuno.model.machine.ThreadPlayMachine
+ */
+public final class GameRuntime {
+    /** Numbers the threads of the shared pool. */
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    /** Pool shared by every runtime; threads left idle for a minute are released. */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(threadFactory());
+
+    /** The tasks of this runtime that have not finished yet. */
+    private final Set<Future<?>> tasks = ConcurrentHashMap.newKeySet();
+    /** Resources closed on shutdown, in reverse registration order. */
+    private final List<AutoCloseable> resources = new CopyOnWriteArrayList<>();
+    /** Listener notified of the first failure of a task. */
+    private volatile Consumer<Throwable> errorListener;
+    /** The first error thrown by a task, {@code null} if none failed. */
+    private volatile Throwable failure;
+    /** Set once {@link #shutdown()} was called. */
+    private volatile boolean shutdown;
+
+    /**
+     * Starts a task of this game. If the runtime was already shut down the task is not run.
+     *
+     * @param task the task to run
+     * @return true if the task was started
+     */
+    public boolean start(Runnable task) {
+        FutureTask<Void> future = new FutureTask<>(task, null) {
+            @Override
+            protected void done() {
+                tasks.remove(this);
+                if (!isCancelled()) {
+                    try {
+                        get();
+                    } catch (ExecutionException e) {
+                        fail(e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        tasks.add(future);
+        if (shutdown) {
+            future.cancel(true);
+            return false;
+        }
+        EXECUTOR.execute(future);
+        return true;
+    }
+
+    /**
+     * Returns an {@link Executor} view of this runtime: every task it executes is
+     * {@link #start(Runnable) started} by the runtime and cancelled with it.
+     *
+     * @return an executor running tasks on this runtime
+     * @throws RejectedExecutionException from {@code execute} once the runtime was shut down
+     */
+    public Executor executor() {
+        return task -> {
+            if (!start(task)) {
+                throw new RejectedExecutionException("The game runtime was shut down.");
+            }
+        };
+    }
+
+    /**
+     * Registers a resource to be closed when the runtime shuts down. If the runtime was
+     * already shut down, the resource is closed right away.
+     *
+     * @param resource the resource owned by this game
+     * @param <T>      the type of the resource
+     * @return the same resource
+     */
+    public <T extends AutoCloseable> T own(T resource) {
+        resources.add(0, resource);
+        if (shutdown) {
+            closeResources();
+        }
+        return resource;
+    }
+
+    /**
+     * Sets the listener to be notified when a task fails. It is called once, on the
+     * thread of the failed task, after the runtime was shut down.
+     *
+     * @param errorListener the listener to notify
+     */
+    public void setErrorListener(Consumer<Throwable> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Cancels every task of this game and closes every resource it owns, waiting for them
+     * to close. Calling it again has no effect.
+     */
+    public void shutdown() {
+        cancelTasks();
+        closeResources();
+    }
+
+    /**
+     * Cancels every task of this game right away and closes every resource it owns on a
+     * thread of the shared pool, so the caller never waits for I/O. Meant for the FX
+     * thread. Calling it again has no effect.
+     *
+     * @return a future completed once every resource was closed
+     */
+    public CompletableFuture<Void> shutdownAsync() {
+        cancelTasks();
+        return CompletableFuture.runAsync(this::closeResources, EXECUTOR);
+    }
+
+    /**
+     * Marks the runtime as shut down and cancels every task, interrupting it.
+     */
+    private void cancelTasks() {
+        shutdown = true;
+        for (Future<?> task : tasks) {
+            task.cancel(true);
+        }
+        tasks.clear();
+    }
+
+    /**
+     * Checks if the runtime was shut down.
+     *
+     * @return true after {@link #shutdown()} was called or a task failed
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns the first error thrown by a task of this game.
+     *
+     * @return the error, or {@code null} if no task failed
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Shuts the runtime down because a task failed and reports the error.
+     *
+     * @param error the error thrown by the task
+     */
+    private void fail(Throwable error) {
+        synchronized (this) {
+            if (failure != null || shutdown) {
+                return;
+            }
+            failure = error;
+        }
+        shutdown();
+        Consumer<Throwable> listener = errorListener;
+        if (listener != null) {
+            listener.accept(error);
+        } else {
+            error.printStackTrace();
+        }
+    }
+
+    /**
+     * Closes and forgets every registered resource.
+     */
+    private void closeResources() {
+        for (AutoCloseable resource : resources) {
+            if (!resources.remove(resource)) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates the factory of the threads game tasks run on: daemon threads, so an
+     * unfinished game never keeps the JVM alive. On a JDK with virtual threads this can
+     * return {@code Thread.ofVirtual().name("uno-game-", 0).factory()} instead.
+     *
+     * @return the thread factory
+     */
+    private static ThreadFactory threadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "uno-game-" + THREAD_COUNT.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+
+import java.util.Arrays;
+
+/**
+ * Class {@code GameSnapshot}
+ * <p>
+ * Immutable copy of the state of a game, published by its {@link GameActor} after
+ * every batch of commands. Readers on other threads (the UI, the machine player) use
+ * it instead of reading the live players, deck and table, which only the actor's
+ * thread may touch.
+ * </p>
+ *
+ * <p>Hands are copied as {@link org.example.eiscuno.model.player.Hand#getCardMask() id masks},
+ * plus the ids of the human player's cards in the order they are shown, so taking a
+ * snapshot costs a few field reads and one small array.</p>
+ *
+ * <p>It is the view model of the game scene: the controller renders only from it, and
+ * skips the snapshots that {@link #hasSameViewAs(GameSnapshot) look the same} as the one
+ * on screen.</p>
+ *
+ * @see GameActor#getSnapshot()
+ */
+public final class GameSnapshot {
+    /** Number of commands applied to the game when the snapshot was taken. */
+    private final long version;
+    /** Number of moves committed when the snapshot was taken. */
+    private final long moveNumber;
+    /** Whose turn it is. */
+    private final TurnEnum turn;
+    /** The color in play. */
+    private final CardColor currentColor;
+    /** Id of the card on top of the table, {@link CardId#NONE} if the table is empty. */
+    private final int topCardId;
+    /** Mask of the ids in the human player's hand. */
+    private final long humanHandMask;
+    /** Ids of the human player's cards, in hand order. */
+    private final byte[] humanHandIds;
+    /** Mask of the ids in the machine player's hand. */
+    private final long machineHandMask;
+    /** Number of cards in the machine player's hand. */
+    private final int machineHandSize;
+    /** Number of cards left in the deck. */
+    private final int deckSize;
+    /** Number of cards on the table. */
+    private final int tableSize;
+    /** Whether and how the game ended. */
+    private final GameStateEnum state;
+
+    /**
+     * Constructs a snapshot. Use {@link GameUnoAdapter#createSnapshot(long)}.
+     *
+     * @param version         number of commands applied to the game
+     * @param moveNumber      number of moves committed
+     * @param turn            whose turn it is
+     * @param currentColor    the color in play
+     * @param topCardId       id of the card on the table, or {@link CardId#NONE}
+     * @param humanHandMask   mask of the human player's hand
+     * @param humanHandIds    ids of the human player's cards in hand order; not copied
+     * @param machineHandMask mask of the machine player's hand
+     * @param machineHandSize number of cards of the machine player
+     * @param deckSize        number of cards left in the deck
+     * @param tableSize       number of cards on the table
+     * @param state           whether and how the game ended
+     */
+    GameSnapshot(long version, long moveNumber, TurnEnum turn, CardColor currentColor, int topCardId,
+                 long humanHandMask, byte[] humanHandIds, long machineHandMask, int machineHandSize,
+                 int deckSize, int tableSize, GameStateEnum state) {
+        this.version = version;
+        this.moveNumber = moveNumber;
+        this.turn = turn;
+        this.currentColor = currentColor;
+        this.topCardId = topCardId;
+        this.humanHandMask = humanHandMask;
+        this.humanHandIds = humanHandIds;
+        this.machineHandMask = machineHandMask;
+        this.machineHandSize = machineHandSize;
+        this.deckSize = deckSize;
+        this.tableSize = tableSize;
+        this.state = state;
+    }
+
+    /**
+     * @return the number of commands applied to the game when the snapshot was taken
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if this snapshot shows the same thing as another one: the same card on the
+     * table, color, turn, cards of the human player in the same order, number of cards of
+     * the machine and state. Hidden details, like the machine's cards or the size of the
+     * deck, and the version are not compared, so a renderer can skip a snapshot that would
+     * draw the same frame.
+     *
+     * @param other the snapshot to compare with
+     * @return true if both snapshots render the same
+     */
+    public boolean hasSameViewAs(GameSnapshot other) {
+        return other == this
+                || (turn == other.turn
+                && currentColor == other.currentColor
+                && topCardId == other.topCardId
+                && humanHandMask == other.humanHandMask
+                && machineHandSize == other.machineHandSize
+                && state == other.state
+                && Arrays.equals(humanHandIds, other.humanHandIds));
+    }
+
+    /**
+     * Returns the number of moves committed when the snapshot was taken. A move decided
+     * on this snapshot is committed with this number, and rejected if another move was
+     * committed in between.
+     *
+     * @return the move number
+     * @see GameUnoAdapter#tryCommitMove(long, TurnEnum, boolean)
+     */
+    public long getMoveNumber() {
+        return moveNumber;
+    }
+
+    /**
+     * @return whose turn it is
+     */
+    public TurnEnum getTurn() {
+        return turn;
+    }
+
+    /**
+     * @return the color in play
+     */
+    public CardColor getCurrentColor() {
+        return currentColor;
+    }
+
+    /**
+     * @return the id of the card on top of the table, {@link CardId#NONE} if the table is empty
+     */
+    public int getTopCardId() {
+        return topCardId;
+    }
+
+    /**
+     * @return the mask of the ids in the human player's hand
+     */
+    public long getHumanHandMask() {
+        return humanHandMask;
+    }
+
+    /**
+     * @return the number of cards in the human player's hand
+     */
+    public int getHumanHandSize() {
+        return humanHandIds.length;
+    }
+
+    /**
+     * Returns the id of one of the human player's cards.
+     *
+     * @param position the position of the card in hand order
+     * @return the card id at that position
+     * @throws IndexOutOfBoundsException if the position is outside the hand
+     */
+    public int getHumanCardId(int position) {
+        return humanHandIds[position];
+    }
+
+    /**
+     * @return the mask of the ids in the machine player's hand
+     */
+    public long getMachineHandMask() {
+        return machineHandMask;
+    }
+
+    /**
+     * @return the number of cards in the machine player's hand
+     */
+    public int getMachineHandSize() {
+        return machineHandSize;
+    }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * @return the number of cards on the table
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * @return whether and how the game ended
+     */
+    public GameStateEnum getState() {
+        return state;
+    }
+
+    /**
+     * Checks if the game is still being played.
+     *
+     * @return true if the snapshot was taken while the game was ongoing
+     */
+    public boolean isOngoing() {
+        return state == GameStateEnum.GAME_ONGOING;
+    }
+}
@@ -21,7 +21,8 @@ public enum GameStateEnum {
     MACHINE_WON,
     /**
      * Indicates that the draw pile (deck) has run out of cards,
-     * preventing further play.
+     * preventing further play. With {@link DeckEmptyPolicyEnum#RESHUFFLE_DISCARDS}
+     * this only happens when the table has no card left to recycle.
      */
     DECK_EMPTY,
     /**
@@ -47,4 +47,20 @@ public class GameUno extends GameUnoAdapter implements Serializable {
         super(humanPlayer, machinePlayer, deck, table);
     }
 
+    /**
+     * Constructs a new {@code GameUno} instance that handles an empty deck according
+     * to the given policy.
+     *
+     * @param humanPlayer     the {@link Player} controlled by a human participant
+     * @param machinePlayer   the {@link Player} controlled by the AI opponent
+     * @param deck            the {@link Deck} containing the cards for this game
+     * @param table           the {@link Table} on which cards will be played
+     * @param deckEmptyPolicy what to do when the deck runs out of cards
+     */
+    public GameUno(Player humanPlayer, Player machinePlayer, Deck deck, Table table,
+                   DeckEmptyPolicyEnum deckEmptyPolicy) {
+        super(humanPlayer, machinePlayer, deck, table);
+        setDeckEmptyPolicy(deckEmptyPolicy);
+    }
+
 }
@@ -1,12 +1,22 @@
 package org.example.eiscuno.model.game;
 
+import org.example.eiscuno.listener.CurrentColorListener;
+import org.example.eiscuno.listener.MoveListener;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.card.cardEffect.CardEffectContext;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventPublisher;
 import org.example.eiscuno.model.exceptions.EmptyDeck;
+import org.example.eiscuno.model.player.Hand;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Abstract adapter class implementing the basic logic and rules of an UNO game.
@@ -45,13 +55,39 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      */
     protected Table table;
     /**
-     * Stores the current color in play (e.g., after a Wild or +4 card is played).
+     * Stores the current color in play: the color of the card on the table, or the
+     * color chosen after a Wild or +4 card is played.
      */
-    protected String currentColor;
+    protected CardColor currentColor;
     /**
-     * Indicates whose turn it currently is ({@link TurnEnum#PLAYER} or {@link TurnEnum#MACHINE}).
+     * Indicates whose turn it currently is ({@link TurnEnum#PLAYER} or {@link TurnEnum#MACHINE})
+     * and how many moves were committed, updated atomically.
      */
-    protected volatile TurnEnum turn;
+    protected final TurnToken turnToken;
+    /**
+     * What happens when a player has to draw from an empty deck.
+     */
+    protected DeckEmptyPolicyEnum deckEmptyPolicy;
+    /**
+     * Context reused for every card effect applied in this game, created on first use.
+     */
+    private transient CardEffectContext effectContext;
+    /**
+     * Wakes up the agents waiting for their turn, created on first use.
+     */
+    private transient TurnScheduler turnScheduler;
+    /**
+     * Listeners notified when the current color changes, created on first registration.
+     */
+    private transient List<CurrentColorListener> currentColorListeners;
+    /**
+     * Stream of the events of this game, created on first use.
+     */
+    private transient volatile GameEventPublisher eventPublisher;
+    /**
+     * Records every change made by the moves of this game, {@code null} if nothing does.
+     */
+    private transient volatile MoveListener moveListener;
 
     /**
      * Constructs a {@code GameUnoAdapter} with the specified players, deck, and table.
@@ -66,8 +102,9 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
         this.machinePlayer = machinePlayer;
         this.deck = deck;
         this.table = table;
-        this.turn = TurnEnum.PLAYER;
-        currentColor = "";
+        this.turnToken = new TurnToken(TurnEnum.PLAYER);
+        this.deckEmptyPolicy = DeckEmptyPolicyEnum.END_GAME;
+        currentColor = CardColor.UNKNOWN;
 
     }
 
@@ -83,12 +120,9 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
     @Override
     public void startGame() throws EmptyDeck {
         //Reparte las cartas iniciales al jugador humano y máquina
-        for (int i = 0; i < 10; i++) {
-            if (i < 5) {
-                humanPlayer.addCard(this.deck.takeCard());
-            } else {
-                machinePlayer.addCard(this.deck.takeCard());
-            }
+        if (deck.drawInto(humanPlayer.getCardsPlayer(), 5) < 5
+                || deck.drawInto(machinePlayer.getCardsPlayer(), 5) < 5) {
+            throw new EmptyDeck("No hay suficientes cartas para repartir");
         }
         putFirstCard();
     }
@@ -105,31 +139,106 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
         if (currentCardOnTable == null) {
             return true;
         }
+        return isCardPlayable(cardToPlay.getId(), currentCardOnTable.getId(), currentColor);
+    }
 
-        // Coincidencia en color o valor
-        boolean colorMatch = cardToPlay.getColor().equals(currentCardOnTable.getColor());
-        //System.out.println(colorMatch);
-        boolean valueMatch = cardToPlay.getValue().equals(currentCardOnTable.getValue());
-        //System.out.println(valueMatch);
-
-        // Cartas especiales (como "WILD" o "+4") pueden jugarse en cualquier momento
-        boolean isSpecialCard = cardToPlay.getValue().equals("NEWCOLOR") ||
-                cardToPlay.getValue().equals("EAT4");
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A card can be played if it matches the active color, matches the value of the
+     * card on the table, or is a wild card ("NEWCOLOR" or "EAT4").
+     * </p>
+     */
+    @Override
+    public boolean isCardPlayable(int cardId, int topCardId, CardColor activeColor) {
+        return PlayabilityTable.isPlayable(cardId, topCardId, activeColor);
+    }
 
-        return colorMatch || valueMatch || isSpecialCard;
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hand is checked in a single lookup against the {@link PlayabilityTable},
+     * whatever its size.
+     * </p>
+     */
+    @Override
+    public long getPlayableCards(Player player) {
+        return player.getCardsPlayer().playableCards(table.getCurrentCardId(), currentColor);
     }
 
     /**
      * Allows a player to draw a specified number of cards from the deck.
+     * Thin wrapper over {@link #drawCards(Player, int)} for callers that treat a short
+     * draw as an error; the cards that could be drawn are kept by the player.
      *
      * @param player        The player who will draw cards.
      * @param numberOfCards The number of cards to draw.
+     * @throws EmptyDeck if fewer cards than requested could be drawn
      */
     @Override
     public void eatCard(Player player, int numberOfCards) throws  EmptyDeck {
-        for (int i = 0; i < numberOfCards; i++) {
-            player.addCard(this.deck.takeCard());
+        if (drawCards(player, numberOfCards) < numberOfCards) {
+            throw new EmptyDeck("No hay más cartas en el mazo");
+        }
+    }
+
+    /**
+     * Makes a player draw up to the given number of cards, in one bulk move from the
+     * deck to the hand. If the deck runs out and the game uses
+     * {@link DeckEmptyPolicyEnum#RESHUFFLE_DISCARDS}, the discard pile is recycled and the
+     * draw goes on. Never throws: running out of cards is reported by the result.
+     *
+     * @param player        the player who draws
+     * @param numberOfCards the number of cards to draw
+     * @return the number of cards actually drawn
+     */
+    public int drawCards(Player player, int numberOfCards) {
+        Hand hand = player.getCardsPlayer();
+        int drawn = deck.drawInto(hand, numberOfCards);
+        notifyCardsDrawn(player, drawn);
+        if (drawn < numberOfCards && deckEmptyPolicy == DeckEmptyPolicyEnum.RESHUFFLE_DISCARDS
+                && recycleDiscardPile()) {
+            int refilled = deck.drawInto(hand, numberOfCards - drawn);
+            notifyCardsDrawn(player, refilled);
+            drawn += refilled;
+        }
+        if (drawn > 0 && hasEventSubscribers()) {
+            publishEvent(GameEvent.cardsDrawn(getMoveNumber(), seatOf(player), drawn));
+        }
+        return drawn;
+    }
+
+    /**
+     * Tells the move listener about one bulk draw. The draws before and after a recycle
+     * of the discard pile are reported apart, so they are replayed around it.
+     *
+     * @param player the player who drew
+     * @param drawn  the number of cards drawn
+     */
+    private void notifyCardsDrawn(Player player, int drawn) {
+        MoveListener listener = moveListener;
+        if (drawn > 0 && listener != null) {
+            listener.onCardsDrawn(seatOf(player), drawn);
+        }
+    }
+
+    /**
+     * Moves every card on the table except the top one back into the deck and
+     * shuffles it. Wild cards lose their chosen color.
+     *
+     * @return true if any card was recycled, false if only the top card was on the table
+     */
+    public boolean recycleDiscardPile() {
+        long cardMask = table.drainUnderTop();
+        if (cardMask == 0L) {
+            return false;
         }
+        deck.refill(cardMask);
+        MoveListener listener = moveListener;
+        if (listener != null) {
+            listener.onDiscardsRecycled(deck);
+        }
+        return true;
     }
 
     /**
@@ -139,34 +248,152 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      */
     @Override
     public void putFirstCard() throws EmptyDeck {
-        Card cardToPlay = this.deck.viewCard();
-        while(cardToPlay.getEffect() != null) {
-            this.deck.shuffle();
-            cardToPlay = this.deck.viewCard();
-        }
-        playCard(this.deck.takeCard());
+        playCard(this.deck.takeFirstNumberCard());
     }
 
     /**
      * Places a card on the table during the game.
+     * <p>
+     * Colored cards set the current color; for wild cards the color chosen by the
+     * player is kept, as set by their effect through {@link #setCurrentColor(CardColor)}.
+     * </p>
      *
      * @param card The card to be placed on the table.
      */
     @Override
     public void playCard(Card card) {
+        MoveListener listener = moveListener;
+        boolean publish = hasEventSubscribers();
+        TurnEnum seat = listener != null || publish ? seatHolding(card) : null;
         this.table.addCardOnTheTable(card);
+        if (!CardId.isWild(card.getId())) {
+            setCurrentColor(card.getColor());
+        }
+        if (listener != null) {
+            listener.onCardPlayed(seat, card.getId());
+        }
+        if (publish) {
+            publishEvent(GameEvent.cardPlayed(getMoveNumber(), seat, card.getId()));
+        }
     }
 
     /**
-     * Alternates the turn between {@link TurnEnum#PLAYER} and {@link TurnEnum#MACHINE}.
+     * {@inheritDoc}
+     * <p>
+     * The effect is dispatched through the card's
+     * {@link org.example.eiscuno.model.card.cardEffect.EffectKind} to its shared
+     * implementation, using a single context kept by this game, so applying an effect
+     * allocates nothing. Access to the context is serialized because the human player
+     * and the machine play from different threads.
+     * </p>
+     */
+    @Override
+    public void applyCardEffect(Card card, Player targetPlayer, CardColor color) {
+        if (card.getEffect() == null) {
+            return;
+        }
+        synchronized (this) {
+            if (effectContext == null) {
+                effectContext = new CardEffectContext();
+            }
+            try {
+                card.getEffectKind().apply(effectContext.set(card, this, targetPlayer, color));
+            } finally {
+                effectContext.clear();
+            }
+        }
+        if (color == null || !card.getValue().isWild()) {
+            return;
+        }
+        MoveListener listener = moveListener;
+        if (listener != null) {
+            listener.onColorChosen(color);
+        }
+        if (hasEventSubscribers()) {
+            publishEvent(GameEvent.colorChosen(getMoveNumber(), seatHolding(card), color));
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the current state of the game.
+     *
+     * @param version number of commands applied to the game so far
+     * @return the snapshot
+     */
+    public GameSnapshot createSnapshot(long version) {
+        int topCardId = table.getCurrentCardId();
+        Hand humanHand = humanPlayer.getCardsPlayer();
+        byte[] humanHandIds = new byte[humanHand.size()];
+        int position = 0;
+        for (int id = humanHand.firstId(); id != CardId.NONE; id = humanHand.nextId(id)) {
+            humanHandIds[position++] = (byte) id;
+        }
+        return new GameSnapshot(version, turnToken.getMoveNumber(), turnToken.getTurn(), currentColor, topCardId,
+                humanHand.getCardMask(), humanHandIds,
+                machinePlayer.getCardMask(), machinePlayer.getCardsPlayer().size(),
+                deck.size(), table.size(), isGameOver());
+    }
+
+    /**
+     * Alternates the turn between {@link TurnEnum#PLAYER} and {@link TurnEnum#MACHINE},
+     * counting it as a move. The flip is a single atomic update of the {@link TurnToken}.
      */
     @Override
     public void changeTurn() {
-        if(turn ==  TurnEnum.PLAYER) {
-            turn = TurnEnum.MACHINE;
-        } else if(turn ==  TurnEnum.MACHINE) {
-            turn = TurnEnum.PLAYER;
+        turnToken.pass();
+        turnCommitted();
+    }
+
+    /**
+     * Commits a move of the given player, unless another move was committed since
+     * {@code expectedMove} was read or it is no longer that player's turn. Callers commit
+     * before changing anything else, so a rejected move costs a single failed
+     * compare-and-set.
+     *
+     * @param expectedMove the move number the move was decided on, from
+     *                     {@link #getMoveNumber()} or a {@link GameSnapshot}
+     * @param mover        the player making the move
+     * @param passTurn     whether the turn passes to the other player
+     * @return true if the move was committed and may be applied
+     */
+    public boolean tryCommitMove(long expectedMove, TurnEnum mover, boolean passTurn) {
+        if (!turnToken.tryCommit(expectedMove, mover, passTurn)) {
+            return false;
         }
+        turnCommitted();
+        return true;
+    }
+
+    /**
+     * Reports a committed move to the move listener and wakes up the agents waiting for
+     * their turn.
+     */
+    private void turnCommitted() {
+        MoveListener listener = moveListener;
+        if (listener != null) {
+            listener.onTurnCommitted(turnToken.getTurn());
+        }
+        turnScheduler().signalTurnChanged();
+    }
+
+    /**
+     * Returns the number of moves committed so far.
+     *
+     * @return the current move number
+     */
+    public long getMoveNumber() {
+        return turnToken.getMoveNumber();
+    }
+
+    /**
+     * Restores the turn and the move number of a saved game.
+     *
+     * @param turn       the saved turn
+     * @param moveNumber the number of moves committed when the game was saved
+     */
+    public void restoreTurn(TurnEnum turn, long moveNumber) {
+        turnToken.restore(turn, moveNumber);
+        turnScheduler().signalTurnChanged();
     }
 
     /**
@@ -175,7 +402,7 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      * @return the current {@link TurnEnum}
      */
     public TurnEnum getTurn() {
-        return turn;
+        return turnToken.getTurn();
     }
     /**
      * Sets the turn manually.
@@ -183,7 +410,31 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      * @param turn the {@link TurnEnum} to set
      */
     public void setTurn(TurnEnum turn) {
-        this.turn = turn;
+        turnToken.set(turn);
+        turnCommitted();
+    }
+
+    /**
+     * Blocks the calling thread until it is the given player's turn, without polling.
+     *
+     * @param expected the turn to wait for
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitTurn(TurnEnum expected) throws InterruptedException {
+        turnScheduler().awaitUntil(() -> turnToken.getTurn() == expected);
+    }
+
+    /**
+     * Returns the scheduler of this game, creating it on first use (also after the game
+     * was loaded from a save file).
+     *
+     * @return the game's {@link TurnScheduler}
+     */
+    private synchronized TurnScheduler turnScheduler() {
+        if (turnScheduler == null) {
+            turnScheduler = new TurnScheduler();
+        }
+        return turnScheduler;
     }
 
     /**
@@ -193,14 +444,10 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      */
     @Override
     public void haveSungOne(String playerWhoSang) {
-        try {
-            if (playerWhoSang.equals("HUMAN_PLAYER")) {
-                machinePlayer.addCard(this.deck.takeCard());
-            } else {
-                humanPlayer.addCard(this.deck.takeCard());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+        if (playerWhoSang.equals("HUMAN_PLAYER")) {
+            drawCards(machinePlayer, 1);
+        } else {
+            drawCards(humanPlayer, 1);
         }
     }
 
@@ -213,13 +460,9 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
     @Override
     public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
         int totalCards = this.humanPlayer.getCardsPlayer().size();
-        int numVisibleCards = Math.min(4, totalCards - posInitCardToShow);
+        int numVisibleCards = Math.max(0, Math.min(4, totalCards - posInitCardToShow));
         Card[] cards = new Card[numVisibleCards];
-
-        for (int i = 0; i < numVisibleCards; i++) {
-            cards[i] = this.humanPlayer.getCard(posInitCardToShow + i);
-        }
-
+        this.humanPlayer.getCardsPlayer().copyCards(posInitCardToShow, cards);
         return cards;
     }
 
@@ -231,7 +474,7 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
      */
     @Override
     public GameStateEnum isGameOver() {
-        if(deck.isEmpty()){
+        if(deck.isEmpty() && !canRecycleDiscardPile()){
             return GameStateEnum.DECK_EMPTY;
         } else if (humanPlayer.getCardsPlayer().isEmpty()) {
             return GameStateEnum.PLAYER_WON;
@@ -242,6 +485,33 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
         return GameStateEnum.GAME_ONGOING;
     }
 
+    /**
+     * Checks if an empty deck can still be refilled from the table.
+     *
+     * @return true if the game recycles the discard pile and there is more than one card on the table
+     */
+    private boolean canRecycleDiscardPile() {
+        return deckEmptyPolicy == DeckEmptyPolicyEnum.RESHUFFLE_DISCARDS && table.size() > 1;
+    }
+
+    /**
+     * Returns what happens when a player has to draw from an empty deck.
+     *
+     * @return the current {@link DeckEmptyPolicyEnum}
+     */
+    public DeckEmptyPolicyEnum getDeckEmptyPolicy() {
+        return deckEmptyPolicy;
+    }
+
+    /**
+     * Sets what happens when a player has to draw from an empty deck.
+     *
+     * @param deckEmptyPolicy the {@link DeckEmptyPolicyEnum} to use for this game
+     */
+    public void setDeckEmptyPolicy(DeckEmptyPolicyEnum deckEmptyPolicy) {
+        this.deckEmptyPolicy = deckEmptyPolicy;
+    }
+
     /**
      * Returns the deck
      * @return the deck of cards
@@ -251,18 +521,155 @@ public abstract class GameUnoAdapter implements IGameUno, Serializable {
     }
 
     /**
-     * Sets the current color of the game
+     * Sets the current color of the game, used when a wild card is played.
+     * <p>
+     * The chosen color belongs to the game, not to the card, so the same
+     * {@link Card} instance can be shared by every game.
+     * </p>
+     *
+     * @param currentColor the color chosen for the wild card
+     */
+    public void setCurrentColor(CardColor currentColor){
+        if (this.currentColor == currentColor) {
+            return;
+        }
+        this.currentColor = currentColor;
+        List<CurrentColorListener> listeners = currentColorListeners;
+        if (listeners != null) {
+            for (CurrentColorListener listener : listeners) {
+                listener.onColorChanged();
+            }
+        }
+    }
+
+    /**
+     * Registers a listener to be notified, once, every time the current color changes.
+     * Listeners are not saved with the game.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addCurrentColorListener(CurrentColorListener listener) {
+        if (currentColorListeners == null) {
+            currentColorListeners = new CopyOnWriteArrayList<>();
+        }
+        currentColorListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added with {@link #addCurrentColorListener(CurrentColorListener)}.
+     *
+     * @param listener the listener to remove
      */
-    public void setCurrentColor(){
-        currentColor = table.getCurrentCardOnTheTable().getColor();
+    public synchronized void removeCurrentColorListener(CurrentColorListener listener) {
+        if (currentColorListeners != null) {
+            currentColorListeners.remove(listener);
+        }
     }
 
     /**
      * Returns the current color of the game
      * @return current color of the card on the table
      */
-    public String getCurrentColor(){
+    public CardColor getCurrentColor(){
         return currentColor;
     }
 
+    /**
+     * Returns the stream of the events of this game: cards played and drawn, colors
+     * chosen, "UNO" calls and misses, and the end of the game. Unless another one was
+     * set with {@link #setEventPublisher(GameEventPublisher)}, a default publisher is
+     * created on the first call. It is not saved with the game.
+     *
+     * @return the publisher of this game's events
+     */
+    public synchronized GameEventPublisher getEventPublisher() {
+        if (eventPublisher == null) {
+            eventPublisher = new GameEventPublisher();
+        }
+        return eventPublisher;
+    }
+
+    /**
+     * Sets the publisher the events of this game go to, for example one with a different
+     * buffer size or overflow policy. Subscribers of the previous one are not moved.
+     *
+     * @param eventPublisher the publisher to use
+     */
+    public synchronized void setEventPublisher(GameEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Checks if anybody subscribed to the events of this game, so no event is built when
+     * nobody would receive it.
+     *
+     * @return true if the publisher exists and has subscribers
+     */
+    public boolean hasEventSubscribers() {
+        GameEventPublisher publisher = eventPublisher;
+        return publisher != null && publisher.hasSubscribers();
+    }
+
+    /**
+     * Publishes an event of this game to its subscribers, if there is a publisher.
+     *
+     * @param event the event to publish
+     */
+    public void publishEvent(GameEvent event) {
+        GameEventPublisher publisher = eventPublisher;
+        if (publisher != null) {
+            publisher.publish(event);
+        }
+    }
+
+    /**
+     * Sets the listener recording every change made by the moves of this game, replacing
+     * the previous one. It is called on the thread applying the moves and is not saved
+     * with the game.
+     *
+     * @param moveListener the listener, or {@code null} to stop recording
+     */
+    public void setMoveListener(MoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    /**
+     * Records that a player called "UNO" and publishes it to the event subscribers.
+     *
+     * @param player the player who called it
+     */
+    public void notifyUnoCalled(Player player) {
+        MoveListener listener = moveListener;
+        if (listener != null) {
+            listener.onUnoCalled(seatOf(player));
+        }
+        if (hasEventSubscribers()) {
+            publishEvent(GameEvent.unoCalled(getMoveNumber(), seatOf(player)));
+        }
+    }
+
+    /**
+     * Returns the seat of a player of this game.
+     *
+     * @param player the human or the machine player
+     * @return {@link TurnEnum#PLAYER} for the human player, {@link TurnEnum#MACHINE} for the machine
+     */
+    public TurnEnum seatOf(Player player) {
+        return player == humanPlayer ? TurnEnum.PLAYER : TurnEnum.MACHINE;
+    }
+
+    /**
+     * Returns the seat of the player holding a card, which is the player playing it since
+     * cards leave the hand after they are placed on the table.
+     *
+     * @param card the card being played
+     * @return the seat of its holder, or {@code null} if no player holds it
+     */
+    private TurnEnum seatHolding(Card card) {
+        if (humanPlayer.getCardsPlayer().contains(card)) {
+            return TurnEnum.PLAYER;
+        }
+        return machinePlayer.getCardsPlayer().contains(card) ? TurnEnum.MACHINE : null;
+    }
+
 }
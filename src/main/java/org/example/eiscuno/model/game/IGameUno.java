@@ -1,6 +1,7 @@
 package org.example.eiscuno.model.game;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
 import org.example.eiscuno.model.exceptions.EmptyDeck;
 import org.example.eiscuno.model.exceptions.NonPlayableCard;
 import org.example.eiscuno.model.player.Player;
@@ -25,6 +26,25 @@ public interface IGameUno {
      */
     boolean isCardPlayable(Card cardToPlay, Card currentCardOnTable);
 
+    /**
+     * Verifies if a card satisfies the game rules, working only on compact card ids.
+     *
+     * @param cardId      the id of the card being played
+     * @param topCardId   the id of the card currently on the table
+     * @param activeColor the color currently in play
+     * @return true if it can be played, false if not
+     */
+    boolean isCardPlayable(int cardId, int topCardId, CardColor activeColor);
+
+    /**
+     * Computes which cards of a player's hand can be played on the current table.
+     *
+     * @param player the player whose hand is checked
+     * @return a mask with the bit of every playable card id set, or 0 if none can be played
+     * @see PlayabilityTable
+     */
+    long getPlayableCards(Player player);
+
     /**
      * Makes a player draw a specified number of cards from the deck.
      *
@@ -48,6 +68,15 @@ public interface IGameUno {
      */
     void playCard(Card card);
 
+    /**
+     * Applies the effect of a card, if it has one.
+     *
+     * @param card         the card being played
+     * @param targetPlayer the player affected by the effect
+     * @param color        the color chosen for a wild card, or {@code null}
+     */
+    void applyCardEffect(Card card, Player targetPlayer, CardColor color);
+
     /**
      * Changes the state of the game turn
      */
@@ -0,0 +1,130 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+
+/**
+ * Class {@code PlayabilityTable}
+ * <p>
+ * Precomputed answer to "can this card be played?" for every combination of
+ * card id, id of the card on the table and active color.
+ * </p>
+ *
+ * <p>There are fewer than 64 {@link CardId card ids}, so the set of cards playable on a
+ * given (top card, active color) pair is stored as a single {@code long} whose bit
+ * {@code i} is set when card {@code i} can be played. A single playability check is one
+ * array read plus a shift, and a whole hand encoded the same way (see
+ * {@link org.example.eiscuno.model.player.Player#getCardMask()}) can be tested with one AND.</p>
+ *
+ * @see GameUnoAdapter#isCardPlayable(int, int, CardColor)
+ * @see CardId
+ */
+public final class PlayabilityTable {
+    /** Number of active colors a row is kept for. */
+    private static final int COLORS = CardColor.values().length;
+    /**
+     * Playable-card masks, indexed by {@code topCardId * COLORS + activeColor.ordinal()}.
+     */
+    private static final long[] MASKS = new long[CardId.COUNT * COLORS];
+    /** Mask with the bit of every card of the deck set. */
+    private static final long ALL_CARDS;
+    /** Mask with the bit of every wild card ("NEWCOLOR" and "EAT4") set. */
+    public static final long WILD_CARDS;
+    /** Mask with the bit of every colored card with an effect (skip, reverse, +2) set. */
+    public static final long ACTION_CARDS;
+
+    static {
+        if (CardId.COUNT > Long.SIZE) {
+            throw new ExceptionInInitializerError("Card ids no longer fit in a 64-bit mask");
+        }
+        long allCards = 0L;
+        long wildCards = 0L;
+        long actionCards = 0L;
+        for (int cardId = 0; cardId < CardId.COUNT; cardId++) {
+            if (CardId.isCard(cardId)) {
+                allCards |= 1L << cardId;
+                if (CardId.isWild(cardId)) {
+                    wildCards |= 1L << cardId;
+                } else if (!CardId.value(cardId).isNumber()) {
+                    actionCards |= 1L << cardId;
+                }
+            }
+        }
+        ALL_CARDS = allCards;
+        WILD_CARDS = wildCards;
+        ACTION_CARDS = actionCards;
+
+        for (int topCardId = 0; topCardId < CardId.COUNT; topCardId++) {
+            for (CardColor activeColor : CardColor.values()) {
+                long mask = 0L;
+                if (CardId.isCard(topCardId)) {
+                    for (int cardId = 0; cardId < CardId.COUNT; cardId++) {
+                        if (CardId.isCard(cardId)
+                                && (CardId.color(cardId) == activeColor
+                                || CardId.value(cardId) == CardId.value(topCardId)
+                                || CardId.isWild(cardId))) {
+                            mask |= 1L << cardId;
+                        }
+                    }
+                } else {
+                    mask = allCards;
+                }
+                MASKS[topCardId * COLORS + activeColor.ordinal()] = mask;
+            }
+        }
+    }
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private PlayabilityTable() {
+    }
+
+    /**
+     * Returns the bit of the given card inside a card mask.
+     *
+     * @param cardId the card id
+     * @return a mask with only the card's bit set
+     */
+    public static long bitOf(int cardId) {
+        return 1L << cardId;
+    }
+
+    /**
+     * Returns the mask of every card that can be played on top of the given card.
+     *
+     * @param topCardId   the id of the card on the table, or {@link CardId#NONE} if the table is empty
+     * @param activeColor the color currently in play
+     * @return a mask with the bit of every playable card set
+     */
+    public static long playableMask(int topCardId, CardColor activeColor) {
+        if (topCardId == CardId.NONE) {
+            return ALL_CARDS;
+        }
+        return MASKS[topCardId * COLORS + activeColor.ordinal()];
+    }
+
+    /**
+     * Checks if a card can be played on top of another one.
+     *
+     * @param cardId      the id of the card being played
+     * @param topCardId   the id of the card on the table, or {@link CardId#NONE} if the table is empty
+     * @param activeColor the color currently in play
+     * @return true if the card can be played
+     */
+    public static boolean isPlayable(int cardId, int topCardId, CardColor activeColor) {
+        return (playableMask(topCardId, activeColor) & (1L << cardId)) != 0;
+    }
+
+    /**
+     * Filters a whole hand in one operation.
+     *
+     * @param handMask    mask with the bit of every card in the hand set
+     * @param topCardId   the id of the card on the table, or {@link CardId#NONE} if the table is empty
+     * @param activeColor the color currently in play
+     * @return the subset of {@code handMask} that can be played
+     */
+    public static long playableCards(long handMask, int topCardId, CardColor activeColor) {
+        return handMask & playableMask(topCardId, activeColor);
+    }
+}
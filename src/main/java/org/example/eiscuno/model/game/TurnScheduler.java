@@ -0,0 +1,57 @@
+package org.example.eiscuno.model.game;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Class {@code TurnScheduler}
+ * <p>
+ * Hands the turn over between the players of a game. Agents that play on their own
+ * thread, like the machine, block until the game signals that the turn changed,
+ * instead of polling {@link GameUnoAdapter#getTurn()}. A waiting agent uses no CPU.
+ * </p>
+ *
+ * <p>The turn itself stays in the game. The game calls {@link #signalTurnChanged()}
+ * after every change, and waiting agents re-check their condition under the
+ * scheduler's lock, so no change can be missed between the check and the wait.</p>
+ *
+ * @see GameUnoAdapter#changeTurn()
+ * @see GameUnoAdapter#awaitTurn(TurnEnum)
+ */
+public class TurnScheduler {
+    /** Lock held while checking or signalling a turn change. */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Signalled every time the turn changes. */
+    private final Condition turnChanged = lock.newCondition();
+
+    /**
+     * Wakes up every agent waiting for a turn. Must be called after the turn was updated.
+     */
+    public void signalTurnChanged() {
+        lock.lock();
+        try {
+            turnChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks the calling thread until the given condition holds. Returns at once if it
+     * already does. The condition is re-checked on every turn change.
+     *
+     * @param condition the condition to wait for, usually a check of the current turn
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        lock.lock();
+        try {
+            while (!condition.getAsBoolean()) {
+                turnChanged.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.eiscuno.model.game;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class {@code TurnToken}
+ * <p>
+ * Whose turn it is, together with the number of moves committed so far, packed in a
+ * single {@link AtomicLong}: the move number in the high bits and the {@link TurnEnum}
+ * in the lowest one. Both always change together, in one compare-and-set, so nobody can
+ * observe a turn that does not match its move number.
+ * </p>
+ *
+ * <p>A move is committed with {@link #tryCommit(long, TurnEnum, boolean)}, which only
+ * succeeds if nobody committed another move since the caller read the move number.
+ * A stale move, for example a second click on a card or a move decided on an outdated
+ * snapshot, is rejected by that single failed compare-and-set, before anything
+ * changes.</p>
+ *
+ * @see GameUnoAdapter#tryCommitMove(long, TurnEnum, boolean)
+ */
+public final class TurnToken implements Serializable {
+    /** Move number and turn, packed with {@link #pack(long, TurnEnum)}. */
+    private final AtomicLong state;
+
+    /**
+     * Constructs a token at move 0.
+     *
+     * @param turn whose turn the game starts with
+     */
+    public TurnToken(TurnEnum turn) {
+        this.state = new AtomicLong(pack(0, turn));
+    }
+
+    /**
+     * Returns whose turn it is.
+     *
+     * @return the current turn
+     */
+    public TurnEnum getTurn() {
+        return turnOf(state.get());
+    }
+
+    /**
+     * Returns the number of moves committed so far.
+     *
+     * @return the current move number
+     */
+    public long getMoveNumber() {
+        return moveNumberOf(state.get());
+    }
+
+    /**
+     * Commits a move if nobody committed another one since {@code expectedMove} was read
+     * and it is still {@code mover}'s turn.
+     *
+     * @param expectedMove the move number the move was decided on
+     * @param mover        the player making the move
+     * @param passTurn     whether the turn passes to the other player
+     * @return true if the move was committed, false if it was stale
+     */
+    public boolean tryCommit(long expectedMove, TurnEnum mover, boolean passTurn) {
+        TurnEnum next = passTurn ? other(mover) : mover;
+        return state.compareAndSet(pack(expectedMove, mover), pack(expectedMove + 1, next));
+    }
+
+    /**
+     * Passes the turn to the other player, as a move of whoever holds it.
+     *
+     * @return the new turn
+     */
+    public TurnEnum pass() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            next = pack(moveNumberOf(current) + 1, other(turnOf(current)));
+        } while (!state.compareAndSet(current, next));
+        return turnOf(next);
+    }
+
+    /**
+     * Gives the turn to the given player, counting it as a move.
+     *
+     * @param turn the new turn
+     */
+    public void set(TurnEnum turn) {
+        long current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, pack(moveNumberOf(current) + 1, turn)));
+    }
+
+    /**
+     * Restores a saved token, replacing the current turn and move number.
+     *
+     * @param turn       the saved turn
+     * @param moveNumber the saved move number
+     */
+    public void restore(TurnEnum turn, long moveNumber) {
+        state.set(pack(moveNumber, turn));
+    }
+
+    /**
+     * Packs a move number and a turn into a token value.
+     *
+     * @param moveNumber the move number
+     * @param turn       the turn
+     * @return the packed value
+     */
+    private static long pack(long moveNumber, TurnEnum turn) {
+        return moveNumber << 1 | turn.ordinal();
+    }
+
+    /**
+     * Extracts the move number from a token value.
+     *
+     * @param value a packed value
+     * @return its move number
+     */
+    private static long moveNumberOf(long value) {
+        return value >>> 1;
+    }
+
+    /**
+     * Extracts the turn from a token value.
+     *
+     * @param value a packed value
+     * @return its turn
+     */
+    private static TurnEnum turnOf(long value) {
+        return (value & 1) == 0 ? TurnEnum.PLAYER : TurnEnum.MACHINE;
+    }
+
+    /**
+     * Returns the opponent of the given player.
+     *
+     * @param turn a turn
+     * @return the other turn
+     */
+    private static TurnEnum other(TurnEnum turn) {
+        return turn == TurnEnum.PLAYER ? TurnEnum.MACHINE : TurnEnum.PLAYER;
+    }
+}
@@ -0,0 +1,266 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.listener.HandSizeListener;
+import org.example.eiscuno.listener.UnoEventListener;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Class {@code UnoCallEnforcer}
+ * <p>
+ * Penalizes the players that do not call "UNO" in time. When a watched player's hand
+ * drops to a single card, a deadline between {@link #MIN_DELAY_MILLIS} and
+ * {@link #MAX_DELAY_MILLIS} is armed. Calling "UNO" with {@link #callUno(Player)}, or any
+ * change in the number of cards, cancels it; if it expires, the player draws a penalty
+ * card, through the game's {@link GameActor}, and the {@link UnoEventListener} is notified.
+ * </p>
+ *
+ * <p>Nothing polls the hands: deadlines are armed and cancelled by {@link HandSizeListener}
+ * notifications, and every enforcer of the JVM shares a single daemon timer thread, so
+ * the number of threads does not grow with the number of games.</p>
+ *
+ * @see Hand#addHandSizeListener(HandSizeListener)
+ * @see UnoEventListener
+ */
+public class UnoCallEnforcer implements AutoCloseable {
+    /** Shortest time, in milliseconds, a player has to call "UNO". */
+    public static final long MIN_DELAY_MILLIS = 2000;
+    /** Longest time, in milliseconds, a player has to call "UNO". */
+    public static final long MAX_DELAY_MILLIS = 4000;
+
+    /** Timer shared by every enforcer; cancelled deadlines are removed from its queue. */
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    /** Actor of the game; penalties are applied as commands. */
+    private final GameActor gameActor;
+    /** Watch state of every watched player. */
+    private final Map<Player, Watch> watches = new ConcurrentHashMap<>();
+    /** Random generator used to pick each deadline. */
+    private final RandomGenerator random;
+    /** Listener notified after a player was penalized. */
+    private volatile UnoEventListener listener;
+    /** Set once {@link #close()} was called; no deadline is armed afterwards. */
+    private volatile boolean closed;
+
+    /**
+     * Constructs an enforcer for the given game.
+     *
+     * @param gameActor the actor of the game the watched players belong to
+     */
+    public UnoCallEnforcer(GameActor gameActor) {
+        this(gameActor, new SplittableRandom());
+    }
+
+    /**
+     * Constructs an enforcer for the given game, picking deadlines with the given generator.
+     *
+     * @param gameActor the actor of the game the watched players belong to
+     * @param random    the generator used to pick each deadline
+     */
+    public UnoCallEnforcer(GameActor gameActor, RandomGenerator random) {
+        this.gameActor = gameActor;
+        this.random = random;
+    }
+
+    /**
+     * Starts enforcing the "UNO" call for the given player. If the player already holds
+     * a single card, the deadline is armed right away.
+     *
+     * @param player the player to watch
+     */
+    public void watch(Player player) {
+        Watch watch = new Watch(player);
+        if (watches.putIfAbsent(player, watch) == null) {
+            Hand hand = player.getCardsPlayer();
+            hand.addHandSizeListener(watch);
+            watch.onHandSizeChanged(hand, hand.size());
+        }
+    }
+
+    /**
+     * Records that the given player called "UNO", cancelling their deadline. The call
+     * counts until the number of cards in the player's hand changes to something other
+     * than one.
+     *
+     * @param player the player who called "UNO"
+     */
+    public void callUno(Player player) {
+        Watch watch = watches.get(player);
+        if (watch != null && watch.call()) {
+            gameActor.submit(game -> game.notifyUnoCalled(player));
+        }
+    }
+
+    /**
+     * Checks if the given player has called "UNO" for their current hand.
+     *
+     * @param player the player to check
+     * @return true if the player called "UNO" and still holds the same number of cards
+     */
+    public boolean hasCalledUno(Player player) {
+        Watch watch = watches.get(player);
+        return watch != null && watch.called;
+    }
+
+    /**
+     * Sets the listener to be notified when a player forgets to say "UNO".
+     *
+     * @param listener the listener instance
+     */
+    public void setUnoEventListener(UnoEventListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Stops enforcing the call for every player: pending deadlines are cancelled and
+     * the hands are no longer observed. The shared timer keeps running for other games.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Watch watch : watches.values()) {
+            watch.player.getCardsPlayer().removeHandSizeListener(watch);
+            watch.cancel();
+        }
+        watches.clear();
+    }
+
+    /**
+     * Picks the time a player has to call "UNO".
+     *
+     * @return a delay in milliseconds
+     */
+    private synchronized long nextDelay() {
+        return random.nextLong(MIN_DELAY_MILLIS, MAX_DELAY_MILLIS + 1);
+    }
+
+    /**
+     * Creates the timer shared by every enforcer, running on a single daemon thread.
+     *
+     * @return the timer
+     */
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "uno-call-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Deadline state of one watched player.
+     */
+    private final class Watch implements HandSizeListener {
+        /** The watched player. */
+        private final Player player;
+        /** The pending deadline, {@code null} if none is armed. */
+        private ScheduledFuture<?> deadline;
+        /** Incremented every time a deadline is armed or cancelled, to discard stale expirations. */
+        private long generation;
+        /** Whether the player called "UNO" for their current hand. */
+        private volatile boolean called;
+
+        /**
+         * Constructs the watch state of a player.
+         *
+         * @param player the watched player
+         */
+        private Watch(Player player) {
+            this.player = player;
+        }
+
+        /**
+         * Arms the deadline when the hand drops to one card; cancels it and forgets any
+         * previous call otherwise.
+         */
+        @Override
+        public synchronized void onHandSizeChanged(Hand hand, int size) {
+            if (size == 1) {
+                if (deadline == null && !called && !closed) {
+                    long armed = ++generation;
+                    deadline = TIMER.schedule(() -> expire(armed), nextDelay(), TimeUnit.MILLISECONDS);
+                }
+            } else {
+                cancel();
+                called = false;
+            }
+        }
+
+        /**
+         * Records the call and cancels the pending deadline.
+         *
+         * @return true if the player had not called "UNO" for this hand yet
+         */
+        private synchronized boolean call() {
+            boolean first = !called;
+            called = true;
+            cancel();
+            return first;
+        }
+
+        /**
+         * Cancels the pending deadline, if any.
+         */
+        private synchronized void cancel() {
+            generation++;
+            if (deadline != null) {
+                deadline.cancel(false);
+                deadline = null;
+            }
+        }
+
+        /**
+         * Hands the penalty over to the game's actor when a deadline expires, unless it
+         * was cancelled meanwhile.
+         *
+         * @param armed the generation the deadline was armed with
+         */
+        private void expire(long armed) {
+            synchronized (this) {
+                if (armed != generation || closed) {
+                    return;
+                }
+                deadline = null;
+            }
+            gameActor.submit(game -> penalize(game, armed));
+        }
+
+        /**
+         * Makes the player draw a penalty card, unless the deadline was cancelled by a
+         * move or a call applied before this command.
+         *
+         * @param game  the game, modified on its actor's thread
+         * @param armed the generation the deadline was armed with
+         */
+        private void penalize(GameUno game, long armed) {
+            synchronized (this) {
+                if (armed != generation || called || closed) {
+                    return;
+                }
+            }
+            if (game.isGameOver() != GameStateEnum.GAME_ONGOING) {
+                return;
+            }
+            System.out.println("UNO!");
+            game.drawCards(player, 1);
+            if (game.hasEventSubscribers()) {
+                game.publishEvent(GameEvent.unoMissed(game.getMoveNumber(), game.seatOf(player)));
+            }
+            UnoEventListener listener = UnoCallEnforcer.this.listener;
+            if (listener != null) {
+                listener.onPlayerForgotToSayUno(player);
+            }
+        }
+    }
+}
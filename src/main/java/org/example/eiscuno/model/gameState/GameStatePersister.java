@@ -0,0 +1,249 @@
+package org.example.eiscuno.model.gameState;
+
+import org.example.eiscuno.listener.MoveListener;
+import org.example.eiscuno.model.Serializable.ISerializableFileHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class {@code GameStatePersister}
+ * <p>
+ * Saves the game in the background. {@link #save(GameState)} captures the state in
+ * memory on the calling thread, which must be the one modifying the game (a command of
+ * its {@link org.example.eiscuno.model.game.GameActor}), and returns without touching
+ * the disk. The file is written later by a single writer thread shared by every
+ * persister of the JVM, so two saves of the same file never race.
+ * </p>
+ *
+ * <p>The file is a {@link MoveJournal}: the game registers {@link #getMoveListener()},
+ * and a save appends the changes recorded since the previous one, so its cost follows
+ * what the moves changed rather than the size of the game. Once the records since the
+ * last snapshot exceed {@link #getCompactionThreshold()} bytes, a save compacts them
+ * into a new full snapshot instead, so the file never grows long and loading never
+ * replays much.</p>
+ *
+ * <p>Saves are coalesced: while the file is being written, the records captured meanwhile
+ * are gathered into a single append, and a snapshot replaces everything pending before
+ * it. A burst of moves therefore costs one or two writes. {@link #flush(long)} waits
+ * until the last captured save is on disk, for the end of the game and for shutdown.</p>
+ *
+ * @see MoveJournal
+ * @see ISerializableFileHandler#writeBytes(String, byte[])
+ * @see ISerializableFileHandler#appendBytes(String, byte[])
+ */
+public final class GameStatePersister implements AutoCloseable {
+    /** Longest time, in milliseconds, {@link #close()} waits for the pending save. */
+    public static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    /** Bytes of records kept after a snapshot before compacting, unless another threshold is given. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1024;
+
+    /** Thread writing the saves of every persister, one file at a time. */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "uno-autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Handler writing and appending to the file. */
+    private final ISerializableFileHandler fileHandler;
+    /** File the game is saved to. */
+    private final String filename;
+    /** Bytes of records kept after a snapshot before compacting them into a new one. */
+    private final int compactionThreshold;
+    /** Records the moves of the game; only used by the thread modifying the game. */
+    private final MoveJournal journal = new MoveJournal();
+    /** Set while a write task is scheduled or running. */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    /** Guards the pending bytes and the sequence numbers, and is notified after every write. */
+    private final Object progress = new Object();
+    /** Bytes captured but not written yet. */
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    /** Whether the pending bytes start a new file rather than extend the current one. */
+    private boolean pendingRewrite;
+    /** Sequence number of the last captured save. */
+    private long captured;
+    /** Sequence number of the last save written, or dropped because a newer one was. */
+    private long written;
+    /**
+     * Set when a write failed, so the file may not hold what the journal expects: the
+     * next save writes a snapshot, and appends are dropped until it is written.
+     */
+    private volatile boolean damaged;
+    /** Set once {@link #close()} was called; later saves are ignored. */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a persister saving to the given file, compacting once
+     * {@value #DEFAULT_COMPACTION_THRESHOLD} bytes of records follow the last snapshot.
+     *
+     * @param fileHandler handler used to write the file
+     * @param filename    the file the game is saved to
+     */
+    public GameStatePersister(ISerializableFileHandler fileHandler, String filename) {
+        this(fileHandler, filename, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a persister saving to the given file.
+     *
+     * @param fileHandler         handler used to write the file
+     * @param filename            the file the game is saved to
+     * @param compactionThreshold bytes of records kept after a snapshot before compacting
+     *                            them into a new one; 0 writes a snapshot on every save
+     */
+    public GameStatePersister(ISerializableFileHandler fileHandler, String filename, int compactionThreshold) {
+        if (compactionThreshold < 0) {
+            throw new IllegalArgumentException("The compaction threshold cannot be negative: " + compactionThreshold);
+        }
+        this.fileHandler = fileHandler;
+        this.filename = filename;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the listener to register with the game through
+     * {@link org.example.eiscuno.model.game.GameUnoAdapter#setMoveListener(MoveListener)},
+     * recording the moves appended by the next saves.
+     *
+     * @return the journal of this persister
+     */
+    public MoveListener getMoveListener() {
+        return journal;
+    }
+
+    /**
+     * Returns the size the records after a snapshot may reach before they are compacted
+     * into a new one.
+     *
+     * @return the compaction threshold, in bytes
+     */
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Captures the changes recorded since the last save, or a full snapshot of the state
+     * if it is the first save or the records since the last snapshot exceed
+     * {@link #getCompactionThreshold()} bytes, and schedules them to be written. A save
+     * with no change since the previous one writes nothing. Only the encoding to memory runs on
+     * the calling thread.
+     *
+     * @param gameState the state to save; its game must report its moves to
+     *                  {@link #getMoveListener()}
+     */
+    public void save(GameState gameState) {
+        if (closed) {
+            return;
+        }
+        boolean rewrite = damaged || !journal.hasSnapshot()
+                || journal.getBytesSinceSnapshot() > compactionThreshold;
+        byte[] data = rewrite ? journal.startSegment(gameState) : journal.takeRecords();
+        if (data.length == 0) {
+            return;
+        }
+        synchronized (progress) {
+            if (rewrite) {
+                pending.reset();
+                pendingRewrite = true;
+            }
+            pending.write(data, 0, data.length);
+            captured++;
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            WRITER.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Waits until every save captured before the call was written.
+     *
+     * @param timeoutMillis longest time to wait, in milliseconds
+     * @return true if everything was written, false if the time ran out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (progress) {
+            long target = captured;
+            while (written < target) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                progress.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops accepting saves and waits, up to {@link #CLOSE_TIMEOUT_MILLIS}, for the last
+     * one to be written. If it is not written by then, it is left to the writer thread.
+     * Since it may wait for the disk, it must not run on the FX thread;
+     * {@link org.example.eiscuno.model.game.GameRuntime#shutdownAsync()} closes it in the
+     * background.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            flush(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the pending bytes until there are none left, then reschedules itself if some
+     * arrived after the flag was cleared. A snapshot replaces the file as a whole; records
+     * are appended to it.
+     */
+    private void writePending() {
+        try {
+            while (true) {
+                byte[] data;
+                boolean rewrite;
+                long sequence;
+                synchronized (progress) {
+                    if (pending.size() == 0) {
+                        break;
+                    }
+                    data = pending.toByteArray();
+                    rewrite = pendingRewrite;
+                    sequence = captured;
+                    pending.reset();
+                    pendingRewrite = false;
+                }
+                if (rewrite) {
+                    damaged = !fileHandler.writeBytes(filename, data);
+                } else if (!damaged) {
+                    damaged = !fileHandler.appendBytes(filename, data);
+                }
+                synchronized (progress) {
+                    written = Math.max(written, sequence);
+                    progress.notifyAll();
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (hasPending() && scheduled.compareAndSet(false, true)) {
+                WRITER.execute(this::writePending);
+            }
+        }
+    }
+
+    /**
+     * Checks if bytes are waiting to be written.
+     *
+     * @return true if a save was captured and not taken by the writer yet
+     */
+    private boolean hasPending() {
+        synchronized (progress) {
+            return pending.size() > 0;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package org.example.eiscuno.model.gameState;
+
+import org.example.eiscuno.listener.MoveListener;
+import org.example.eiscuno.model.Serializable.GameStateCodec;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Class {@code MoveJournal}
+ * <p>
+ * Append-only record of the moves of a game. A journal file starts with a full
+ * {@link GameStateCodec snapshot} of the game and goes on with one compact record per
+ * change made since: a card played, cards drawn, a color chosen, an "UNO" call, a turn
+ * committed, or the discard pile recycled into the deck. Saving a move therefore appends
+ * a few bytes instead of rewriting the whole game, and {@link #replay(byte[])} rebuilds
+ * the game by decoding the snapshot and applying the records in order.
+ * </p>
+ *
+ * <p>The journal is the game's {@link MoveListener}, so it is only used by the thread
+ * applying the moves. The records collected since the last call are taken with
+ * {@link #takeRecords()}, and {@link #startSegment(GameState)} starts a new file from a
+ * fresh snapshot.</p>
+ *
+ * <p>Layout of version {@value #VERSION}, big-endian:</p>
+ * <pre>
+ * int   magic "UNOJ"          byte  version
+ * int   snapshot length       byte[] snapshot, see {@link GameStateCodec}
+ * records:  byte type, byte payload length, byte[] payload, byte check
+ * </pre>
+ *
+ * <p>The check byte is the low byte of the CRC-32 of the type, length and payload. A
+ * write cut short by a crash leaves an incomplete or failing record at the end of the
+ * file; the replay stops there and only that record is lost.</p>
+ *
+ * @see GameStatePersister
+ */
+public final class MoveJournal implements MoveListener {
+    /** First bytes of every journal file: "UNOJ" in ASCII. */
+    public static final int MAGIC = 0x554E4F4A;
+    /** Version of the layout written by this class. */
+    public static final byte VERSION = 1;
+
+    /** A card placed on the table: seat, card id. */
+    private static final byte PLAY = 1;
+    /** Cards drawn from the top of the deck: seat, count. */
+    private static final byte DRAW = 2;
+    /** A color chosen for a wild card: color. */
+    private static final byte COLOR = 3;
+    /** An "UNO" call: seat. Kept for the record, the replay does not change the game. */
+    private static final byte UNO = 4;
+    /** A move committed: the turn after it. */
+    private static final byte TURN = 5;
+    /** The discard pile shuffled into the deck: the deck ids, bottom to top. */
+    private static final byte RECYCLE = 6;
+    /** Seat written for a card played from the deck rather than from a hand. */
+    private static final int NO_SEAT = 0xFF;
+    /** Bytes of a record besides its payload: type, length and check. */
+    private static final int RECORD_OVERHEAD = 3;
+
+    /** Cached values of the enums written as ordinals. */
+    private static final TurnEnum[] TURNS = TurnEnum.values();
+    private static final CardColor[] COLORS = CardColor.values();
+
+    /** Records collected since the last {@link #takeRecords()} or {@link #startSegment(GameState)}. */
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    /** Computes the check byte of each record. */
+    private final CRC32 crc = new CRC32();
+    /** Scratch array for the payload of the record being written. */
+    private final byte[] scratch = new byte[CardId.COUNT];
+    /** Bytes of records written since the last snapshot, taken or not. */
+    private int bytesSinceSnapshot;
+    /** Whether {@link #startSegment(GameState)} was called at least once. */
+    private boolean hasSnapshot;
+
+    /**
+     * Checks if the given bytes start like a journal file, of any version.
+     *
+     * @param data the bytes to check
+     * @return true if they start with {@link #MAGIC}
+     */
+    public static boolean isJournal(byte[] data) {
+        return data.length >= Integer.BYTES && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * Starts a new journal file from a snapshot of the game. The records collected so far
+     * are dropped, since the snapshot already contains their changes.
+     *
+     * @param gameState the state to snapshot; its game must be the one being recorded
+     * @return the header and snapshot of the new file, to which later records are appended
+     */
+    public byte[] startSegment(GameState gameState) {
+        byte[] snapshot = GameStateCodec.encode(gameState);
+        records.reset();
+        bytesSinceSnapshot = 0;
+        hasSnapshot = true;
+        return ByteBuffer.allocate(Integer.BYTES + Byte.BYTES + Integer.BYTES + snapshot.length)
+                .putInt(MAGIC).put(VERSION).putInt(snapshot.length).put(snapshot)
+                .array();
+    }
+
+    /**
+     * Takes the records collected since the last call, or since the segment started.
+     *
+     * @return the records, empty if there is none
+     */
+    public byte[] takeRecords() {
+        byte[] taken = records.toByteArray();
+        records.reset();
+        return taken;
+    }
+
+    /**
+     * Returns the size of the records written since the last snapshot, which is what a
+     * load has to replay.
+     *
+     * @return the bytes of records in the current segment
+     */
+    public int getBytesSinceSnapshot() {
+        return bytesSinceSnapshot;
+    }
+
+    /**
+     * Checks if a segment was started, so records can be appended to a file.
+     *
+     * @return true once {@link #startSegment(GameState)} was called
+     */
+    public boolean hasSnapshot() {
+        return hasSnapshot;
+    }
+
+    @Override
+    public void onTurnCommitted(TurnEnum turn) {
+        append(TURN, turn.ordinal());
+    }
+
+    @Override
+    public void onCardPlayed(TurnEnum seat, int cardId) {
+        append(PLAY, seat == null ? NO_SEAT : seat.ordinal(), cardId);
+    }
+
+    @Override
+    public void onCardsDrawn(TurnEnum seat, int count) {
+        append(DRAW, seat.ordinal(), count);
+    }
+
+    @Override
+    public void onColorChosen(CardColor color) {
+        append(COLOR, color.ordinal());
+    }
+
+    @Override
+    public void onUnoCalled(TurnEnum seat) {
+        append(UNO, seat.ordinal());
+    }
+
+    @Override
+    public void onDiscardsRecycled(Deck deck) {
+        int size = deck.copyCardIds(scratch);
+        writeRecord(RECYCLE, scratch, size);
+    }
+
+    /**
+     * Appends a record with a one-byte payload.
+     *
+     * @param type  the record type
+     * @param value the payload
+     */
+    private void append(byte type, int value) {
+        scratch[0] = (byte) value;
+        writeRecord(type, scratch, 1);
+    }
+
+    /**
+     * Appends a record with a two-byte payload.
+     *
+     * @param type   the record type
+     * @param first  the first payload byte
+     * @param second the second payload byte
+     */
+    private void append(byte type, int first, int second) {
+        scratch[0] = (byte) first;
+        scratch[1] = (byte) second;
+        writeRecord(type, scratch, 2);
+    }
+
+    /**
+     * Appends a record: type, payload length, payload and check byte.
+     *
+     * @param type    the record type
+     * @param payload array holding the payload
+     * @param length  the payload length
+     */
+    private void writeRecord(byte type, byte[] payload, int length) {
+        crc.reset();
+        crc.update(type);
+        crc.update(length);
+        crc.update(payload, 0, length);
+        records.write(type);
+        records.write(length);
+        records.write(payload, 0, length);
+        records.write((int) crc.getValue());
+        bytesSinceSnapshot += RECORD_OVERHEAD + length;
+    }
+
+    /**
+     * Rebuilds a game from a journal file: decodes its snapshot and applies its records in
+     * order. Replay stops at the first incomplete or damaged record, which can only be the
+     * one being written when the game was interrupted.
+     *
+     * @param data the journal file
+     * @return the rebuilt state
+     * @throws IllegalArgumentException if the bytes are not a journal, were written by an
+     *                                  unknown version, or their snapshot is corrupt
+     */
+    public static GameState replay(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        GameState gameState;
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an UNO move journal.");
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unknown journal version " + version + ".");
+            }
+            byte[] snapshot = new byte[in.getInt()];
+            in.get(snapshot);
+            gameState = GameStateCodec.decode(snapshot);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated move journal.", e);
+        }
+
+        CRC32 check = new CRC32();
+        byte[] payload = new byte[CardId.COUNT];
+        while (in.remaining() >= RECORD_OVERHEAD) {
+            int start = in.position();
+            byte type = in.get();
+            int length = Byte.toUnsignedInt(in.get());
+            if (length > payload.length || in.remaining() < length + 1) {
+                break;
+            }
+            in.get(payload, 0, length);
+            check.reset();
+            check.update(data, start, 2 + length);
+            if (in.get() != (byte) check.getValue() || !apply(gameState, type, payload, length)) {
+                break;
+            }
+        }
+        return gameState;
+    }
+
+    /**
+     * Applies one record to a game being replayed.
+     *
+     * @param gameState the game being replayed
+     * @param type      the record type
+     * @param payload   array holding the payload
+     * @param length    the payload length
+     * @return false if the record is not valid for the game, which ends the replay
+     */
+    private static boolean apply(GameState gameState, byte type, byte[] payload, int length) {
+        GameUno game = gameState.getGameUno();
+        switch (type) {
+            case PLAY:
+                if (length != 2 || !CardId.isCard(payload[1])) {
+                    return false;
+                }
+                Card card = Card.of(payload[1]);
+                int seat = Byte.toUnsignedInt(payload[0]);
+                if (seat != NO_SEAT) {
+                    Player player = playerAt(gameState, seat);
+                    if (player == null || !player.getCardsPlayer().contains(card)) {
+                        return false;
+                    }
+                    game.playCard(card);
+                    player.removeCard(card);
+                } else {
+                    game.playCard(card);
+                }
+                return true;
+            case DRAW:
+                Player drawer = length == 2 ? playerAt(gameState, payload[0]) : null;
+                int count = Byte.toUnsignedInt(payload[1]);
+                return drawer != null && gameState.getDeck().drawInto(drawer.getCardsPlayer(), count) == count;
+            case COLOR:
+                if (length != 1 || Byte.toUnsignedInt(payload[0]) >= COLORS.length) {
+                    return false;
+                }
+                game.setCurrentColor(COLORS[payload[0]]);
+                return true;
+            case UNO:
+                return length == 1;
+            case TURN:
+                if (length != 1 || Byte.toUnsignedInt(payload[0]) >= TURNS.length) {
+                    return false;
+                }
+                game.setTurn(TURNS[payload[0]]);
+                return true;
+            case RECYCLE:
+                for (int i = 0; i < length; i++) {
+                    if (!CardId.isCard(payload[i])) {
+                        return false;
+                    }
+                }
+                gameState.getTable().drainUnderTop();
+                gameState.getDeck().restoreCardIds(payload, length);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the player sitting at the given seat.
+     *
+     * @param gameState the game being replayed
+     * @param seat      the {@link TurnEnum} ordinal of the seat
+     * @return the player, or {@code null} if the seat is not valid
+     */
+    private static Player playerAt(GameState gameState, int seat) {
+        if (seat == TurnEnum.PLAYER.ordinal()) {
+            return gameState.getHumanPlayer();
+        }
+        return seat == TurnEnum.MACHINE.ordinal() ? gameState.getMachinePlayer() : null;
+    }
+}
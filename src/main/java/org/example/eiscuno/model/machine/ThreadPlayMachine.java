@@ -1,61 +1,70 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.scene.image.ImageView;
-import org.example.eiscuno.listener.GameOverListener;
 import org.example.eiscuno.listener.MachinePlayListener;
 import org.example.eiscuno.listener.UnoEventListener;
+import org.example.eiscuno.model.Serializable.SaveSlotFileHandler;
 import org.example.eiscuno.model.Serializable.SerializableFileHandler;
 import org.example.eiscuno.model.card.Card;
-import org.example.eiscuno.model.exceptions.EmptyDeck;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.game.GameActor;
 import org.example.eiscuno.model.game.GameStateEnum;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.PlayabilityTable;
 import org.example.eiscuno.model.gameState.GameState;
+import org.example.eiscuno.model.gameState.GameStatePersister;
 import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.game.UnoCallEnforcer;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Class {@code ThreadPlayMachine}
  *
- * <p>Represents a separate thread controlling the behavior of the machine player in the UNO game.
+ * <p>Represents a background task, run by the game's
+ * {@link org.example.eiscuno.model.game.GameRuntime}, controlling the behavior of the machine player in the UNO game.
  * It automatically attempts to play a valid card whenever it is the machine's turn.
  * If no card can be played, the machine draws a card and passes the turn.</p>
  *
- * <p>This class continuously runs while {@link #running} is {@code true} and communicates
- * with various event listeners to notify about significant events such as machine plays,
- * drawing cards, or the game ending.</p>
+ * <p>This class runs while {@link #running} is {@code true}, sleeping until it is the
+ * machine's turn, and communicates with various event listeners to notify about
+ * significant events such as machine plays or drawing cards.</p>
  *
  * @see GameUno
  * @see Player
  * @see Card
  * @see MachinePlayListener
- * @see GameOverListener
  */
-public class ThreadPlayMachine extends Thread {
+public class ThreadPlayMachine implements Runnable {
     /** The table where the game is being played, used to check the current top card. */
     private Table table;
     /** The machine-controlled player. */
     private Player playerMachine;
     /** The human-controlled player. */
     private Player humanPlayer;
-    /** The {@link ImageView} displaying the top card on the table. */
-    private ImageView tableImageView;
     /** The active {@link GameUno} instance managing game logic. */
     private GameUno gameUno;
     /** Tracks whose turn it is in the game. */
     private volatile TurnEnum turn;
     /** Controls whether this thread's execution loop should continue running. */
     private volatile boolean running;
-    /** Optional listener for game-over events. */
-    private GameOverListener gameOverListener;
     /** Holds the current saved state of the game for persistence. */
     private GameState gameState;
-    /** Utility handler for serializing the game state. */
+    /** Utility handler for serializing the game state, used when there is no persister. */
     private SerializableFileHandler serializableFileHandler;
+    /** Writes the saves of the game in the background, shared with the controller. */
+    private GameStatePersister gameStatePersister;
     /** Listener for notifying when the machine has played or drawn a card. */
     private MachinePlayListener machinePlayListener;
+    /** Actor the machine's moves are submitted to, {@code null} to play directly. */
+    private GameActor gameActor;
+    /** Enforcer the machine calls "UNO" on when it is left with one card. */
+    private UnoCallEnforcer unoCallEnforcer;
+    /** Random generator used to choose the color of the machine's wild cards. */
+    private final Random random = new Random();
 
 
     /**
@@ -63,15 +72,13 @@ public class ThreadPlayMachine extends Thread {
      *
      * @param table         the {@link Table} representing the playing area
      * @param playerMachine the {@link Player} representing the machine
-     * @param tableImageView the {@link ImageView} for updating the top card display
      * @param gameUno       the active {@link GameUno} instance
      * @param HumanPlayer   the {@link Player} representing the human opponent
      */
-    public ThreadPlayMachine(Table table, Player playerMachine, ImageView tableImageView, GameUno gameUno
+    public ThreadPlayMachine(Table table, Player playerMachine, GameUno gameUno
             , Player HumanPlayer) {
         this.table = table;
         this.playerMachine = playerMachine;
-        this.tableImageView = tableImageView;
         this.gameUno = gameUno;
         this.turn = gameUno.getTurn();
         this.running = true;
@@ -82,26 +89,61 @@ public class ThreadPlayMachine extends Thread {
     /**
      * Main execution loop for the machine's behavior.
      * <p>
-     * Continuously checks if it's the machine's turn. If it is, waits 2 seconds before
-     * attempting to play a valid card via {@link #putCardOnTable()}.
+     * Sleeps until the game hands the turn to the machine, using
+     * {@link GameUno#awaitTurn(TurnEnum)}, so no CPU is used while the human player
+     * is thinking. It reads the move number as soon as it gets the turn, then waits 2
+     * seconds before attempting to play a valid card via {@link #putCardOnTable(long)},
+     * run by the game's {@link GameActor}, so a move committed during the wait makes the
+     * play fail instead of being decided on a changed game. Interrupting the thread, which is how
+     * {@link org.example.eiscuno.model.game.GameRuntime#shutdown()} cancels it, ends the loop.
      * </p>
      */
+    @Override
     public void run() {
         while (running) {
-            turn = gameUno.getTurn();
-            if (turn == TurnEnum.MACHINE) {
+            long expectedMove;
+            try {
+                gameUno.awaitTurn(TurnEnum.MACHINE);
+                expectedMove = gameUno.getMoveNumber();
+                turn = gameUno.getTurn();
                 System.out.println("MACHINE TURN!");
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (running) {
                 try {
-                    Thread.sleep(2000);
+                    playTurn(expectedMove);
                 } catch (InterruptedException e) {
-                    e.printStackTrace();
+                    Thread.currentThread().interrupt();
+                    return;
                 }
-                putCardOnTable();
             }
         }
     }
 
 
+    /**
+     * Plays the machine's turn. With a {@link GameActor}, the move is submitted as a
+     * single command, so it never runs concurrently with the human player's moves, and
+     * this thread waits until it was applied.
+     *
+     * @param expectedMove the move number read when the machine got the turn
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private void playTurn(long expectedMove) throws InterruptedException {
+        if (gameActor == null) {
+            putCardOnTable(expectedMove);
+            return;
+        }
+        try {
+            gameActor.submit(game -> putCardOnTable(expectedMove)).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The machine move failed.", e.getCause());
+        }
+    }
+
     /**
      * Stops the execution loop by setting {@code running} to false.
      */
@@ -112,70 +154,61 @@ public class ThreadPlayMachine extends Thread {
     /**
      * Handles the machine's decision-making process to play a card.
      * <ul>
-     *     <li>Finds the first playable card in the machine's hand.</li>
+     *     <li>Picks a playable card from the machine's hand: number cards first, then action
+     *     cards, keeping wild cards for last.</li>
      *     <li>Chooses a random color for wild cards.</li>
-     *     <li>Plays the card and updates the {@link ImageView} table image.</li>
+     *     <li>Plays the card; the table notifies its listeners, which update the view.</li>
      *     <li>If no cards can be played, draws one card and passes the turn.</li>
      * </ul>
+     * The move is committed with {@link GameUno#tryCommitMove(long, TurnEnum, boolean)}
+     * before anything changes; if another move was committed since {@code expectedMove},
+     * nothing is played.
      *
-     * @see GameUno#isCardPlayable(Card, Card)
-     * @see GameUno#eatCard(Player, int)
+     * @param expectedMove the move number the machine decided to play on
+     * @see GameUno#getPlayableCards(Player)
+     * @see GameUno#drawCards(Player, int)
      */
-    public void putCardOnTable() {
-        ArrayList<Card> cards = playerMachine.getCardsPlayer();
-        Card cardOnTable = table.getCurrentCardOnTheTable();
+    public void putCardOnTable(long expectedMove) {
         boolean machinePlayed = false;
 
         if (gameUno.isGameOver() != GameStateEnum.GAME_ONGOING) {
             return;
         }
 
-        for (int i = 0; i < cards.size(); i++) {
-            Card card = cards.get(i);
-            boolean isCardPlayable = gameUno.isCardPlayable(card, cardOnTable);
-            if (isCardPlayable) {
-                if (card.getValue().equals("NEWCOLOR") || card.getValue().equals("EAT4")) {
-                    List<String> colors = List.of("GREEN", "YELLOW", "BLUE", "RED");
-                    Random random = new Random();
-                    String chosenColor = colors.get(random.nextInt(colors.size()));
-
-                    System.out.println("Máquina: Color elegido: " + chosenColor);
-                    card.applyEffect(card.new CardEffectContext(gameUno, humanPlayer, chosenColor));
-
-                } else {
-                    card.applyEffect(card.new CardEffectContext(gameUno, humanPlayer));
-                }
-
-                if (card.getEffect() == null) {
-                    gameUno.changeTurn();
-                }
-
-                gameUno.playCard(card);
-                //setHasPlayerPlayed(card.getValue().equals("SKIP") || card.getValue().equals("REVERSE"));
+        long playableCards = gameUno.getPlayableCards(playerMachine);
+        if (playableCards != 0) {
+            int cardId = chooseCard(playableCards);
+            Card card = playerMachine.getCardsPlayer().getById(cardId);
+            if (!gameUno.tryCommitMove(expectedMove, TurnEnum.MACHINE, card.getEffectKind().passesTurn())) {
+                return;
+            }
+            if (CardId.isWild(cardId)) {
+                CardColor chosenColor = CardColor.choosable(random.nextInt(CardColor.choosableCount()));
 
-                tableImageView.setImage(card.getImage());
-                playerMachine.removeCard(i);
+                System.out.println("Máquina: Color elegido: " + chosenColor);
+                gameUno.applyCardEffect(card, humanPlayer, chosenColor);
 
+            } else {
+                gameUno.applyCardEffect(card, humanPlayer, null);
+            }
 
-                if (gameOverListener != null) {
-                    gameOverListener.onGameOver();
-                }
-                //Boolean flag to exit while loop
-                machinePlayed = true;
+            gameUno.playCard(card);
 
+            playerMachine.removeCard(card);
+            if (unoCallEnforcer != null && playerMachine.getCardsPlayer().size() == 1) {
+                unoCallEnforcer.callUno(playerMachine);
             }
+            machinePlayed = true;
         }
 
         if (!machinePlayed) {
-            try {
-                gameUno.eatCard(playerMachine, 1);
-            }catch (EmptyDeck e){
-                e.printStackTrace();
+            if (!gameUno.tryCommitMove(expectedMove, TurnEnum.MACHINE, true)) {
+                return;
             }
+            gameUno.drawCards(playerMachine, 1);
             if(machinePlayListener != null){
                 machinePlayListener.onMachineDrewCard();
             }
-            gameUno.changeTurn();
             System.out.println("No hay cartas jugables.");
 
         }
@@ -187,12 +220,19 @@ public class ThreadPlayMachine extends Thread {
     }
 
     /**
-     * Sets the listener to be notified when the game ends.
+     * Chooses which of the playable cards the machine plays: a number card if it has one,
+     * otherwise a skip, reverse or +2 card, and a wild card only when nothing else can be
+     * played. The card classes come from the {@link PlayabilityTable} masks, so the choice
+     * does not depend on the order of the card ids.
      *
-     * @param gameOverListener the listener to handle game over behavior
+     * @param playableCards mask of the playable cards in the machine's hand, not empty
+     * @return the id of the card to play
      */
-    public void setGameOverListener(GameOverListener gameOverListener) {
-        this.gameOverListener = gameOverListener;
+    private static int chooseCard(long playableCards) {
+        long numberCards = playableCards & ~(PlayabilityTable.ACTION_CARDS | PlayabilityTable.WILD_CARDS);
+        long actionCards = playableCards & PlayabilityTable.ACTION_CARDS;
+        long preferred = numberCards != 0 ? numberCards : actionCards != 0 ? actionCards : playableCards;
+        return Long.numberOfTrailingZeros(preferred);
     }
 
     /**
@@ -204,14 +244,49 @@ public class ThreadPlayMachine extends Thread {
         this.machinePlayListener = machinePlayListener;
     }
 
+    /**
+     * Sets the actor of the game, which applies the machine's moves from now on.
+     *
+     * @param gameActor the {@link GameActor} of the game
+     */
+    public void setGameActor(GameActor gameActor) {
+        this.gameActor = gameActor;
+    }
+
+    /**
+     * Sets the enforcer the machine calls "UNO" on when it is left with one card.
+     *
+     * @param unoCallEnforcer the {@link UnoCallEnforcer} of the game
+     */
+    public void setUnoCallEnforcer(UnoCallEnforcer unoCallEnforcer) {
+        this.unoCallEnforcer = unoCallEnforcer;
+    }
+
+    /**
+     * Sets the persister the machine's moves are saved through, the same one the
+     * controller uses, so both never write the file at the same time.
+     *
+     * @param gameStatePersister the {@link GameStatePersister} of the game
+     */
+    public void setGameStatePersister(GameStatePersister gameStatePersister) {
+        this.gameStatePersister = gameStatePersister;
+    }
+
     /**
      * Saves the current state of the game to a serialized file named {@code GameState.ser}.
-     * This method is called after each machine action.
+     * This method is called after each machine action. With a {@link GameStatePersister}
+     * the state is only captured here and written in the background.
      */
     public void saveGameState() {
-        serializableFileHandler = new SerializableFileHandler();
         this.gameState = new GameState(this.gameUno.getDeck(), this.gameUno, this.table, this.humanPlayer, this.playerMachine);
-        serializableFileHandler.serialize("GameState.ser", this.gameState);
+        if (gameStatePersister != null) {
+            gameStatePersister.save(this.gameState);
+        } else {
+            if (serializableFileHandler == null) {
+                serializableFileHandler = new SaveSlotFileHandler();
+            }
+            serializableFileHandler.serialize("GameState.ser", this.gameState);
+        }
         System.out.println("Saving machine movement...");
     }
 }
@@ -0,0 +1,371 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.listener.HandSizeListener;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.card.CardValue;
+import org.example.eiscuno.model.game.PlayabilityTable;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Class {@code Hand}
+ * <p>
+ * The cards held by a {@link Player}, indexed by {@link CardId card id}.
+ * </p>
+ *
+ * <p>Every card of a deck has a distinct id, so the hand is a doubly linked list threaded
+ * through arrays indexed by id. This keeps the order in which cards were received (the
+ * order they are shown in) while adding, removing and looking up a card are O(1).
+ * The hand also keeps a mask of the ids it holds and how many cards of each color and
+ * value it has, so "is there any playable card?" is a single
+ * {@link PlayabilityTable} lookup regardless of the hand size.</p>
+ *
+ * <p>Registered {@link HandSizeListener}s are notified of every change in the number of
+ * cards, which is how the UNO call is enforced.</p>
+ *
+ * @see Player
+ * @see PlayabilityTable
+ */
+public class Hand implements Serializable {
+    /** Id of the next card in hand order, indexed by id. */
+    private final byte[] next;
+    /** Id of the previous card in hand order, indexed by id. */
+    private final byte[] previous;
+    /** Id of the first card of the hand, {@link CardId#NONE} if empty. */
+    private int first;
+    /** Id of the last card of the hand, {@link CardId#NONE} if empty. */
+    private int last;
+    /** Number of cards in the hand. */
+    private int size;
+    /** Mask with the bit of every card id in the hand set. */
+    private long cardMask;
+    /** Number of cards of each printed color, indexed by {@link CardColor#ordinal()}. */
+    private final int[] colorCounts;
+    /** Number of cards of each value, indexed by {@link CardValue#ordinal()}. */
+    private final int[] valueCounts;
+    /** Listeners notified when the number of cards changes, created on first registration. */
+    private transient List<HandSizeListener> handSizeListeners;
+
+    /**
+     * Constructs an empty hand.
+     */
+    public Hand() {
+        this.next = new byte[CardId.COUNT];
+        this.previous = new byte[CardId.COUNT];
+        this.colorCounts = new int[CardColor.values().length];
+        this.valueCounts = new int[CardValue.values().length];
+        this.first = CardId.NONE;
+        this.last = CardId.NONE;
+    }
+
+    /**
+     * Adds a card at the end of the hand.
+     *
+     * @param card the card to add
+     * @throws IllegalArgumentException if the card is already in the hand
+     */
+    public void add(Card card) {
+        link(card.getId());
+        fireSizeChanged();
+    }
+
+    /**
+     * Adds several cards at the end of the hand, in the order they appear in the array.
+     * Listeners are notified once, with the final number of cards.
+     *
+     * @param ids   array holding the ids of the cards to add
+     * @param from  position of the first id in the array
+     * @param count number of cards to add
+     * @throws IllegalArgumentException if one of the cards is already in the hand
+     */
+    public void addIds(byte[] ids, int from, int count) {
+        if (count <= 0) {
+            return;
+        }
+        for (int i = from; i < from + count; i++) {
+            link(ids[i]);
+        }
+        fireSizeChanged();
+    }
+
+    /**
+     * Links a card at the end of the hand and updates the counters, without notifying
+     * the listeners.
+     *
+     * @param id the id of the card to add
+     * @throws IllegalArgumentException if the card is already in the hand
+     */
+    private void link(int id) {
+        if (containsId(id)) {
+            throw new IllegalArgumentException("Card " + CardId.asset(id) + " is already in the hand.");
+        }
+        previous[id] = (byte) last;
+        next[id] = (byte) CardId.NONE;
+        if (last == CardId.NONE) {
+            first = id;
+        } else {
+            next[last] = (byte) id;
+        }
+        last = id;
+        size++;
+        cardMask |= PlayabilityTable.bitOf(id);
+        colorCounts[CardId.color(id).ordinal()]++;
+        valueCounts[CardId.value(id).ordinal()]++;
+    }
+
+    /**
+     * Removes a card from the hand.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the hand
+     */
+    public boolean remove(Card card) {
+        return removeById(card.getId()) != null;
+    }
+
+    /**
+     * Removes the card with the given id from the hand.
+     *
+     * @param id the card id
+     * @return the removed card, or {@code null} if it was not in the hand
+     */
+    public Card removeById(int id) {
+        if (!containsId(id)) {
+            return null;
+        }
+        int before = previous[id];
+        int after = next[id];
+        if (before == CardId.NONE) {
+            first = after;
+        } else {
+            next[before] = (byte) after;
+        }
+        if (after == CardId.NONE) {
+            last = before;
+        } else {
+            previous[after] = (byte) before;
+        }
+        size--;
+        cardMask &= ~PlayabilityTable.bitOf(id);
+        colorCounts[CardId.color(id).ordinal()]--;
+        valueCounts[CardId.value(id).ordinal()]--;
+        fireSizeChanged();
+        return Card.of(id);
+    }
+
+    /**
+     * Removes the card at the given position of the hand.
+     *
+     * @param index the position of the card
+     * @return the removed card
+     * @throws IndexOutOfBoundsException if the position is outside the hand
+     */
+    public Card remove(int index) {
+        return removeById(idAt(index));
+    }
+
+    /**
+     * Retrieves the card at the given position of the hand.
+     *
+     * @param index the position of the card
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the position is outside the hand
+     */
+    public Card get(int index) {
+        return Card.of(idAt(index));
+    }
+
+    /**
+     * Copies consecutive cards of the hand into an array, walking the hand only once.
+     *
+     * @param from   position of the first card to copy
+     * @param target array receiving the cards; up to {@code target.length} cards are copied
+     * @return the number of cards copied
+     */
+    public int copyCards(int from, Card[] target) {
+        int copied = 0;
+        int id = first;
+        for (int i = 0; id != CardId.NONE && copied < target.length; i++, id = next[id]) {
+            if (i >= from) {
+                target[copied++] = Card.of(id);
+            }
+        }
+        return copied;
+    }
+
+    /**
+     * Retrieves the card with the given id.
+     *
+     * @param id the card id
+     * @return the card, or {@code null} if it is not in the hand
+     */
+    public Card getById(int id) {
+        return containsId(id) ? Card.of(id) : null;
+    }
+
+    /**
+     * Checks if the hand holds the given card.
+     *
+     * @param card the card to look for
+     * @return true if the card is in the hand
+     */
+    public boolean contains(Card card) {
+        return containsId(card.getId());
+    }
+
+    /**
+     * Checks if the hand holds the card with the given id.
+     *
+     * @param id the card id
+     * @return true if the card is in the hand
+     */
+    public boolean containsId(int id) {
+        return (cardMask & PlayabilityTable.bitOf(id)) != 0;
+    }
+
+    /**
+     * Returns the id of the first card of the hand, to iterate over it without allocating.
+     *
+     * @return the first card id, or {@link CardId#NONE} if the hand is empty
+     */
+    public int firstId() {
+        return first;
+    }
+
+    /**
+     * Returns the id of the card following the given one in hand order.
+     *
+     * @param id the id of a card in the hand
+     * @return the next card id, or {@link CardId#NONE} at the end of the hand
+     */
+    public int nextId(int id) {
+        return next[id];
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     *
+     * @return the hand size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the hand is empty.
+     *
+     * @return true if there are no cards in the hand
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ids of the cards in the hand as a bit mask.
+     *
+     * @return a mask with the bit of every card id in the hand set
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Returns how many cards of the given printed color are in the hand.
+     *
+     * @param color the color to count; {@link CardColor#UNKNOWN} counts wild cards
+     * @return the number of cards of that color
+     */
+    public int countOf(CardColor color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Returns how many cards of the given value are in the hand.
+     *
+     * @param value the value to count
+     * @return the number of cards with that value
+     */
+    public int countOf(CardValue value) {
+        return valueCounts[value.ordinal()];
+    }
+
+    /**
+     * Returns the cards of the hand that can be played on the given card.
+     *
+     * @param topCardId   the id of the card on the table
+     * @param activeColor the color currently in play
+     * @return a mask with the bit of every playable card id set
+     */
+    public long playableCards(int topCardId, CardColor activeColor) {
+        return PlayabilityTable.playableCards(cardMask, topCardId, activeColor);
+    }
+
+    /**
+     * Checks if any card of the hand can be played on the given card, in constant time.
+     *
+     * @param topCardId   the id of the card on the table
+     * @param activeColor the color currently in play
+     * @return true if at least one card is playable
+     */
+    public boolean hasPlayableCard(int topCardId, CardColor activeColor) {
+        return playableCards(topCardId, activeColor) != 0;
+    }
+
+    /**
+     * Registers a listener to be notified every time a card is added to or removed from
+     * the hand. Listeners are not saved with the hand.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addHandSizeListener(HandSizeListener listener) {
+        if (handSizeListeners == null) {
+            handSizeListeners = new CopyOnWriteArrayList<>();
+        }
+        handSizeListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added with {@link #addHandSizeListener(HandSizeListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeHandSizeListener(HandSizeListener listener) {
+        if (handSizeListeners != null) {
+            handSizeListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Notifies the registered listeners of the current size of the hand.
+     */
+    private void fireSizeChanged() {
+        List<HandSizeListener> listeners = handSizeListeners;
+        if (listeners != null) {
+            for (HandSizeListener listener : listeners) {
+                listener.onHandSizeChanged(this, size);
+            }
+        }
+    }
+
+    /**
+     * Finds the id of the card at the given position.
+     *
+     * @param index the position in hand order
+     * @return the card id at that position
+     * @throws IndexOutOfBoundsException if the position is outside the hand
+     */
+    private int idAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for hand of " + size);
+        }
+        int id = first;
+        for (int i = 0; i < index; i++) {
+            id = next[id];
+        }
+        return id;
+    }
+}
@@ -2,8 +2,6 @@ package org.example.eiscuno.model.player;
 
 import org.example.eiscuno.model.card.Card;
 
-import java.util.ArrayList;
-
 /**
  * Interface representing a player in the Uno game.
  * Provides methods to interact with the player's hand of cards.
@@ -28,9 +26,9 @@ public interface IPlayer {
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return The {@link Hand} containing all cards of the player.
      */
-    ArrayList<Card> getCardsPlayer();
+    Hand getCardsPlayer();
 
     /**
      * Removes a card from the player's hand based on its index.
@@ -38,4 +36,12 @@ public interface IPlayer {
      * @param index The index of the card to remove.
      */
     void removeCard(int index);
+
+    /**
+     * Removes the given card from the player's hand in constant time.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand.
+     */
+    boolean removeCard(Card card);
 }
@@ -3,14 +3,13 @@ package org.example.eiscuno.model.player;
 import org.example.eiscuno.model.card.Card;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 
 /**
  * Represents a player in the Uno game.
  */
 public class Player implements IPlayer, Serializable {
     /** Represents the current hand of cards for a player.*/
-    private ArrayList<Card> cardsPlayer;
+    private Hand cardsPlayer;
     /** Represents the kind of player: human or machine.*/
     private String typePlayer;
 
@@ -19,7 +18,7 @@ public class Player implements IPlayer, Serializable {
      * @param typePlayer The kind of player created, human or machine.
      */
     public Player(String typePlayer){
-        this.cardsPlayer = new ArrayList<Card>();
+        this.cardsPlayer = new Hand();
         this.typePlayer = typePlayer;
     }
 
@@ -36,10 +35,10 @@ public class Player implements IPlayer, Serializable {
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return The {@link Hand} containing all cards of the player.
      */
     @Override
-    public ArrayList<Card> getCardsPlayer() {
+    public Hand getCardsPlayer() {
         return cardsPlayer;
     }
 
@@ -53,6 +52,27 @@ public class Player implements IPlayer, Serializable {
         cardsPlayer.remove(index);
     }
 
+    /**
+     * Removes the given card from the player's hand in constant time.
+     *
+     * @param card The card to remove.
+     * @return true if the card was in the player's hand.
+     */
+    @Override
+    public boolean removeCard(Card card) {
+        return cardsPlayer.remove(card);
+    }
+
+    /**
+     * Returns the ids of the cards in the hand as a bit mask, so the whole hand can be
+     * checked against the {@link org.example.eiscuno.model.game.PlayabilityTable} in one operation.
+     *
+     * @return a mask with the bit of every card id in the hand set
+     */
+    public long getCardMask() {
+        return cardsPlayer.getCardMask();
+    }
+
     /**
      * Retrieves a card from the player's hand based on its index.
      *
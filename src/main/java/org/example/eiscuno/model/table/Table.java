@@ -1,22 +1,51 @@
 package org.example.eiscuno.model.table;
 
+import org.example.eiscuno.listener.CardPlacedListener;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.game.PlayabilityTable;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents the table in the Uno game where cards are played.
+ * <p>
+ * Only the last {@link #HISTORY_SIZE} cards are kept, in a ring buffer, which is all the
+ * game ever needs to read (the current and the previous card). The rest of the discard
+ * pile is tracked as a mask of card ids plus counters, so the memory used by a table and
+ * the size of a saved game stay the same however long the game runs.
+ * </p>
+ * <p>
+ * Registered {@link CardPlacedListener}s are notified every time a card is placed, so
+ * nobody needs to poll the table to notice a new card.
+ * </p>
  */
 public class Table implements Serializable{
-    /** Represents the played cards on the current table. */
-    private ArrayList<Card> cardsTable;
+    /** Number of recently played cards kept on the table. */
+    public static final int HISTORY_SIZE = 8;
+
+    /** Ring buffer with the ids of the most recently played cards. */
+    private final byte[] recentCards;
+    /** Position in {@link #recentCards} where the next card will be written. */
+    private int head;
+    /** Number of valid entries in {@link #recentCards}. */
+    private int recentCount;
+    /** Mask with the bit of every card id on the table set, including the older ones. */
+    private long cardMask;
+    /** Number of cards on the table. */
+    private int size;
+    /** Number of cards played on this table since the game started. */
+    private long totalPlayed;
+    /** Listeners notified when a card is placed, created on first registration. */
+    private transient List<CardPlacedListener> cardPlacedListeners;
 
     /**
      * Constructs a new Table object with no cards on it.
      */
     public Table(){
-        this.cardsTable = new ArrayList<Card>();
+        this.recentCards = new byte[HISTORY_SIZE];
     }
 
     /**
@@ -25,7 +54,171 @@ public class Table implements Serializable{
      * @param card The card to be added to the table.
      */
     public void addCardOnTheTable(Card card){
-        this.cardsTable.add(card);
+        recentCards[head] = (byte) card.getId();
+        head = (head + 1) % HISTORY_SIZE;
+        if (recentCount < HISTORY_SIZE) {
+            recentCount++;
+        }
+        cardMask |= PlayabilityTable.bitOf(card.getId());
+        size++;
+        totalPlayed++;
+
+        List<CardPlacedListener> listeners = cardPlacedListeners;
+        if (listeners != null) {
+            for (CardPlacedListener listener : listeners) {
+                listener.onCardPlaced(card);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener to be notified every time a card is placed on the table.
+     * Listeners are not saved with the table.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addCardPlacedListener(CardPlacedListener listener) {
+        if (cardPlacedListeners == null) {
+            cardPlacedListeners = new CopyOnWriteArrayList<>();
+        }
+        cardPlacedListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added with {@link #addCardPlacedListener(CardPlacedListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeCardPlacedListener(CardPlacedListener listener) {
+        if (cardPlacedListeners != null) {
+            cardPlacedListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns the number of cards on the table.
+     *
+     * @return the number of cards played so far that are still on the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ids of every card on the table, including the ones no longer kept in
+     * the recent history.
+     *
+     * @return a mask with the bit of every card id on the table set
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Returns how many recently played cards are kept, at most {@link #HISTORY_SIZE}.
+     *
+     * @return the number of cards readable with {@link #getRecentCardId(int)}
+     */
+    public int getRecentCount() {
+        return recentCount;
+    }
+
+    /**
+     * Replaces the contents of the table with a saved state. Listeners are not notified.
+     *
+     * @param recentIds   ids of the recently played cards, the oldest first and the card
+     *                    on top last
+     * @param recentCount number of ids to take from the array, at most {@link #HISTORY_SIZE}
+     * @param cardMask    mask of every card id on the table
+     * @param size        number of cards on the table
+     * @param totalPlayed number of cards played since the game started
+     * @throws IllegalArgumentException if the history does not fit the table
+     */
+    public void restore(byte[] recentIds, int recentCount, long cardMask, int size, long totalPlayed) {
+        if (recentCount < 0 || recentCount > HISTORY_SIZE || recentCount > size) {
+            throw new IllegalArgumentException("Invalid table history of " + recentCount + " cards.");
+        }
+        System.arraycopy(recentIds, 0, recentCards, 0, recentCount);
+        this.head = recentCount % HISTORY_SIZE;
+        this.recentCount = recentCount;
+        this.cardMask = cardMask;
+        this.size = size;
+        this.totalPlayed = totalPlayed;
+    }
+
+    /**
+     * Returns the number of cards played on this table since the game started,
+     * including the ones recycled back into the deck.
+     *
+     * @return the total number of cards played
+     */
+    public long getTotalPlayed() {
+        return totalPlayed;
+    }
+
+    /**
+     * Returns one of the recently played cards.
+     *
+     * @param back how many cards back to look, 0 being the card on top
+     * @return the card played {@code back} cards before the current one
+     * @throws IndexOutOfBoundsException if that card is no longer (or not yet) kept on the table
+     */
+    public Card getRecentCard(int back) throws IndexOutOfBoundsException {
+        int id = getRecentCardId(back);
+        if (id == CardId.NONE) {
+            throw new IndexOutOfBoundsException("Card " + back + " is not in the table history.");
+        }
+        return Card.of(id);
+    }
+
+    /**
+     * Returns the id of one of the recently played cards, without throwing when it is
+     * not kept on the table.
+     *
+     * @param back how many cards back to look, 0 being the card on top
+     * @return the id of that card, or {@link CardId#NONE} if it is no longer (or not yet) kept
+     */
+    public int getRecentCardId(int back) {
+        if (back < 0 || back >= recentCount) {
+            return CardId.NONE;
+        }
+        return recentCards[Math.floorMod(head - 1 - back, HISTORY_SIZE)];
+    }
+
+    /**
+     * Returns the id of the card on top of the table.
+     *
+     * @return the id of the current card, or {@link CardId#NONE} if the table is empty
+     */
+    public int getCurrentCardId() {
+        return getRecentCardId(0);
+    }
+
+    /**
+     * Returns the id of the card played before the current one.
+     *
+     * @return the id of the previous card, or {@link CardId#NONE} if there is none
+     */
+    public int getPreviousCardId() {
+        return getRecentCardId(1);
+    }
+
+    /**
+     * Removes every card except the top one from the table, so they can be shuffled
+     * back into the deck. Nothing is copied: the cards are handed over as their id mask.
+     *
+     * @return a mask with the bit of every removed card id set, 0 if nothing was removed
+     */
+    public long drainUnderTop() {
+        if (size < 2) {
+            return 0L;
+        }
+        long topBit = PlayabilityTable.bitOf(getCurrentCardId());
+        long drained = cardMask & ~topBit;
+        cardMask = topBit;
+        size = 1;
+        recentCount = 1;
+        return drained;
     }
 
     /**
@@ -35,10 +228,11 @@ public class Table implements Serializable{
      * @throws IndexOutOfBoundsException if there are no cards on the table.
      */
     public Card getCurrentCardOnTheTable() throws IndexOutOfBoundsException {
-        if (cardsTable.isEmpty()) {
+        int id = getCurrentCardId();
+        if (id == CardId.NONE) {
             throw new IndexOutOfBoundsException("There are no cards on the table.");
         }
-        return this.cardsTable.get(this.cardsTable.size()-1);
+        return Card.of(id);
     }
 
     /**
@@ -48,6 +242,6 @@ public class Table implements Serializable{
      * @throws IndexOutOfBoundsException if there are no cards on the table.
      */
     public Card getpreviousCardOnTheTable() throws IndexOutOfBoundsException {
-        return this.cardsTable.get(this.cardsTable.size()-2);
+        return getRecentCard(1);
     }
 }
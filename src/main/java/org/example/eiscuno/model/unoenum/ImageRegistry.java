@@ -0,0 +1,96 @@
+package org.example.eiscuno.model.unoenum;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Class {@code ImageRegistry}
+ * <p>
+ * Process-wide cache of the images referenced by {@link EISCUnoEnum}.
+ * Each asset is decoded at most once per JVM (and once more at card display size
+ * when requested), so building a deck, restoring a saved game or rendering several
+ * tables no longer decodes the same PNG over and over.
+ * </p>
+ *
+ * <p>Images are immutable once loaded, so the same instance can be shown by any
+ * number of {@link ImageView} nodes at the same time.</p>
+ *
+ * @see EISCUnoEnum
+ */
+public final class ImageRegistry {
+    /** Width, in pixels, at which cards are displayed in the players' hands. */
+    public static final double CARD_WIDTH = 60;
+    /** Height, in pixels, at which cards are displayed in the players' hands. */
+    public static final double CARD_HEIGHT = 90;
+
+    /** Images decoded at their original size, indexed by {@link EISCUnoEnum#ordinal()}. */
+    private static final Image[] FULL_SIZE = new Image[EISCUnoEnum.values().length];
+    /** Images decoded at {@link #CARD_WIDTH} x {@link #CARD_HEIGHT}, indexed by {@link EISCUnoEnum#ordinal()}. */
+    private static final Image[] CARD_SIZE = new Image[EISCUnoEnum.values().length];
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private ImageRegistry() {
+    }
+
+    /**
+     * Returns the image for the given asset, decoded at its original size.
+     *
+     * @param asset the asset to look up
+     * @return the shared {@link Image} instance for the asset
+     */
+    public static synchronized Image getImage(EISCUnoEnum asset) {
+        Image image = FULL_SIZE[asset.ordinal()];
+        if (image == null) {
+            image = new Image(resourceOf(asset));
+            FULL_SIZE[asset.ordinal()] = image;
+        }
+        return image;
+    }
+
+    /**
+     * Returns the image for the given asset, decoded directly at card display size
+     * ({@link #CARD_WIDTH} x {@link #CARD_HEIGHT}) so the hands don't keep full-size
+     * bitmaps in memory.
+     *
+     * @param asset the asset to look up
+     * @return the shared, display-sized {@link Image} instance for the asset
+     */
+    public static synchronized Image getCardImage(EISCUnoEnum asset) {
+        Image image = CARD_SIZE[asset.ordinal()];
+        if (image == null) {
+            image = new Image(resourceOf(asset), CARD_WIDTH, CARD_HEIGHT, false, true);
+            CARD_SIZE[asset.ordinal()] = image;
+        }
+        return image;
+    }
+
+    /**
+     * Creates a new {@link ImageView} showing the given asset at card display size.
+     * <p>
+     * A node can only belong to one parent, so a fresh view is returned on every call,
+     * but all of them share the same cached {@link Image}.
+     * </p>
+     *
+     * @param asset the asset to display
+     * @return a configured {@link ImageView} for the asset
+     */
+    public static ImageView createCardImageView(EISCUnoEnum asset) {
+        ImageView imageView = new ImageView(getCardImage(asset));
+        imageView.setY(16);
+        imageView.setFitHeight(CARD_HEIGHT);
+        imageView.setFitWidth(CARD_WIDTH);
+        return imageView;
+    }
+
+    /**
+     * Resolves the URL of the resource backing the given asset.
+     *
+     * @param asset the asset to resolve
+     * @return the external form of the resource URL
+     */
+    private static String resourceOf(EISCUnoEnum asset) {
+        return String.valueOf(ImageRegistry.class.getResource(asset.getFilePath()));
+    }
+}
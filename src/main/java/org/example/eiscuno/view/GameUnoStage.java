@@ -6,6 +6,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.example.eiscuno.controller.GameUnoController;
 import org.example.eiscuno.controller.WelcomeStageController;
 
 import java.io.IOException;
@@ -33,9 +34,13 @@ public class GameUnoStage extends Stage {
             throw new IOException("Error while loading FXML file", e);
         }
 
+        GameUnoController controller = loader.getController();
         setOnCloseRequest(event -> {
-            Platform.exit(); // shuts down JavaFX runtime
-            System.exit(0);  // kills JVM just in case background threads are alive
+            event.consume(); // the window stays open, but responsive, until the last save is written
+            controller.shutdown().whenComplete((ignored, error) -> Platform.runLater(() -> {
+                Platform.exit(); // shuts down JavaFX runtime
+                System.exit(0);  // kills JVM just in case background threads are alive
+            }));
         });
 
         Scene scene = new Scene(root); // Configuring the stage
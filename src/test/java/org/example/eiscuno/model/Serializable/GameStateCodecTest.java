@@ -0,0 +1,82 @@
+package org.example.eiscuno.model.Serializable;
+
+import org.example.eiscuno.model.game.DeckEmptyPolicyEnum;
+import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.gameState.GameFixture;
+import org.example.eiscuno.model.gameState.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link GameStateCodec} save format.
+ */
+class GameStateCodecTest {
+    /** Offset of the turn ordinal: after the magic and the version. */
+    private static final int TURN_OFFSET = Integer.BYTES + Byte.BYTES;
+    /** Offset of the deck size: after the turn, move number, color and policy. */
+    private static final int DECK_OFFSET = TURN_OFFSET + Byte.BYTES + Long.BYTES + 2 * Byte.BYTES;
+
+    /** A game played for a while, with cards in both hands, the deck and on the table. */
+    private GameState gameState;
+    /** The encoding of {@link #gameState}. */
+    private byte[] data;
+
+    @BeforeEach
+    void setUp() {
+        gameState = GameFixture.newGame(7L, DeckEmptyPolicyEnum.RESHUFFLE_DISCARDS);
+        GameFixture.playMoves(gameState, 30, new Random(7L));
+        data = GameStateCodec.encode(gameState);
+    }
+
+    @Test
+    void decodeRebuildsTheEncodedGame() {
+        assertTrue(GameStateCodec.isEncoded(data));
+        GameState decoded = GameStateCodec.decode(data);
+
+        GameFixture.assertSameGame(gameState, decoded);
+        assertEquals(gameState.getGameUno().getDeckEmptyPolicy(), decoded.getGameUno().getDeckEmptyPolicy());
+        assertEquals(gameState.getTable().getTotalPlayed(), decoded.getTable().getTotalPlayed());
+        assertEquals(gameState.getTable().getRecentCount(), decoded.getTable().getRecentCount());
+        assertEquals(gameState.getHumanPlayer().getTypePlayer(), decoded.getHumanPlayer().getTypePlayer());
+        assertEquals(gameState.getMachinePlayer().getTypePlayer(), decoded.getMachinePlayer().getTypePlayer());
+        assertArrayEquals(data, GameStateCodec.encode(decoded));
+    }
+
+    @Test
+    void decodeRejectsABadMagicNumber() {
+        data[0] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+
+    @Test
+    void decodeRejectsAnUnknownVersion() {
+        data[Integer.BYTES] = GameStateCodec.VERSION + 1;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+
+    @Test
+    void decodeRejectsAnOutOfRangeOrdinal() {
+        data[TURN_OFFSET] = (byte) TurnEnum.values().length;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+
+    @Test
+    void decodeRejectsACardIdReadTwice() {
+        int handCard = gameState.getHumanPlayer().getCardsPlayer().firstId();
+        data[DECK_OFFSET + 1] = (byte) handCard;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+
+    @Test
+    void decodeRejectsACardIdRepeatedInTheDeck() {
+        data[DECK_OFFSET + 2] = data[DECK_OFFSET + 1];
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.eiscuno.model.Serializable;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link SaveSlots} double buffering.
+ */
+class SaveSlotsTest {
+    /** Bytes of data each slot holds in these tests. */
+    private static final int CAPACITY = 64;
+    /** Bytes of the file header: magic and slot capacity. */
+    private static final int FILE_HEADER = 2 * Integer.BYTES;
+    /** Offset of the header CRC in a slot: after the sequence, length and data CRC. */
+    private static final int HEADER_CRC = Long.BYTES + 2 * Integer.BYTES;
+    /** Bytes of a slot header: checked fields and header CRC. */
+    private static final int SLOT_HEADER = HEADER_CRC + Integer.BYTES;
+
+    /** Data of the older save. */
+    private static final byte[] FIRST = bytes("first save");
+    /** Data of the newer save. */
+    private static final byte[] SECOND = bytes("second save");
+
+    /** Directory holding the slot files of a test. */
+    @TempDir
+    Path directory;
+
+    @Test
+    void parseAndReadFallBackWhenTheNewerHeaderIsDamaged() throws IOException {
+        byte[] file = twoSaves();
+        int newer = newestSlot(file);
+        file[slotOffset(newer) + HEADER_CRC] ^= 1;
+
+        assertArrayEquals(FIRST, SaveSlots.parse(ByteBuffer.wrap(file)));
+        assertArrayEquals(FIRST, reopen(file).read());
+    }
+
+    @Test
+    void parseAndReadFallBackWhenTheNewerDataIsDamaged() throws IOException {
+        byte[] file = twoSaves();
+        int newer = newestSlot(file);
+        file[slotOffset(newer) + SLOT_HEADER + 3] ^= 1;
+
+        assertArrayEquals(FIRST, SaveSlots.parse(ByteBuffer.wrap(file)));
+        assertArrayEquals(FIRST, reopen(file).read());
+    }
+
+    @Test
+    void appendsCopyOnlyTheMissingBytes() throws IOException {
+        Path path = directory.resolve("appends.slots");
+        SaveSlots slots = SaveSlots.open(path, CAPACITY);
+        assertTrue(slots.commit(FIRST, true));
+        byte[] expected = FIRST;
+        int previousLength = 0;
+
+        for (int i = 0; i < 5; i++) {
+            byte[] data = bytes("+" + i);
+            int target = 1 - newestSlot(Files.readAllBytes(path));
+            int alreadyThere = slots.matchingBytes(target);
+            assertEquals(previousLength, alreadyThere, "the slot holds the save before the previous one");
+
+            previousLength = expected.length;
+            expected = concat(expected, data);
+            assertTrue(slots.append(data, false));
+            slots.force();
+
+            byte[] file = Files.readAllBytes(path);
+            assertEquals(target, newestSlot(file));
+            assertEquals(expected.length, slots.matchingBytes(target));
+            assertEquals(previousLength, slots.matchingBytes(1 - target));
+            assertArrayEquals(expected, slots.read());
+            assertArrayEquals(expected, slotData(file, target, expected.length));
+            assertArrayEquals(Arrays.copyOf(expected, previousLength), slotData(file, 1 - target, previousLength));
+            assertArrayEquals(expected, SaveSlots.parse(ByteBuffer.wrap(file)));
+        }
+    }
+
+    /**
+     * Commits two saves into a new slot file and returns its contents.
+     *
+     * @return the file, with {@link #FIRST} in one slot and {@link #SECOND} in the newer one
+     * @throws IOException if the file cannot be written or read
+     */
+    private byte[] twoSaves() throws IOException {
+        Path path = directory.resolve("saves.slots");
+        SaveSlots slots = SaveSlots.open(path, CAPACITY);
+        assertTrue(slots.commit(FIRST, true));
+        assertTrue(slots.commit(SECOND, true));
+        byte[] file = Files.readAllBytes(path);
+        assertArrayEquals(SECOND, SaveSlots.parse(ByteBuffer.wrap(file)));
+        return file;
+    }
+
+    /**
+     * Writes a slot file under a new name and maps it.
+     *
+     * @param file the contents of the file
+     * @return the mapped slots
+     * @throws IOException if the file cannot be written or mapped
+     */
+    private SaveSlots reopen(byte[] file) throws IOException {
+        Path path = directory.resolve("reopened.slots");
+        Files.write(path, file);
+        return SaveSlots.open(path, CAPACITY);
+    }
+
+    /**
+     * Returns the slot with the highest sequence number, whatever its checks.
+     *
+     * @param file the contents of the slot file
+     * @return the slot index
+     */
+    private static int newestSlot(byte[] file) {
+        ByteBuffer buffer = ByteBuffer.wrap(file);
+        return buffer.getLong(slotOffset(1)) > buffer.getLong(slotOffset(0)) ? 1 : 0;
+    }
+
+    /**
+     * Returns the first bytes of the data of a slot.
+     *
+     * @param file   the contents of the slot file
+     * @param slot   the slot index
+     * @param length the number of bytes to return
+     * @return the bytes
+     */
+    private static byte[] slotData(byte[] file, int slot, int length) {
+        int start = slotOffset(slot) + SLOT_HEADER;
+        return Arrays.copyOfRange(file, start, start + length);
+    }
+
+    /**
+     * Returns the offset of a slot in the file.
+     *
+     * @param slot the slot index
+     * @return the offset of its header
+     */
+    private static int slotOffset(int slot) {
+        return FILE_HEADER + slot * (SLOT_HEADER + CAPACITY);
+    }
+
+    /**
+     * Returns two arrays one after the other.
+     *
+     * @param first  the first array
+     * @param second the second array
+     * @return a new array holding both
+     */
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] both = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, both, first.length, second.length);
+        return both;
+    }
+
+    /**
+     * Returns the ASCII bytes of a text.
+     *
+     * @param text the text
+     * @return its bytes
+     */
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.eiscuno.model.gameState;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardColor;
+import org.example.eiscuno.model.card.CardId;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.DeckEmptyPolicyEnum;
+import org.example.eiscuno.model.game.GameStateEnum;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.game.TurnEnum;
+import org.example.eiscuno.model.player.Hand;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Class {@code GameFixture}
+ * <p>
+ * Games dealt and played without the view, shared by the save format tests, and a
+ * comparison of two games field by field.
+ * </p>
+ */
+public final class GameFixture {
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private GameFixture() {
+    }
+
+    /**
+     * Deals a new game with a deck shuffled from the given seed.
+     *
+     * @param seed   the seed of the deck shuffle
+     * @param policy what the game does when the deck runs out
+     * @return the state of the dealt game
+     */
+    public static GameState newGame(long seed, DeckEmptyPolicyEnum policy) {
+        Player humanPlayer = new Player("HUMAN_PLAYER");
+        Player machinePlayer = new Player("MACHINE_PLAYER");
+        Deck deck = new Deck(new Random(seed));
+        Table table = new Table();
+        GameUno game = new GameUno(humanPlayer, machinePlayer, deck, table);
+        game.setDeckEmptyPolicy(policy);
+        try {
+            game.startGame();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not deal the test game.", e);
+        }
+        return new GameState(deck, game, table, humanPlayer, machinePlayer);
+    }
+
+    /**
+     * Plays moves the way the controller and the machine do: the player whose turn it is
+     * commits the move, then plays their lowest playable card, or draws one if they have
+     * none. Stops early if the game ends.
+     *
+     * @param gameState the game to play
+     * @param moves     the maximum number of moves to play
+     * @param random    source of the colors chosen for wild cards
+     */
+    public static void playMoves(GameState gameState, int moves, Random random) {
+        GameUno game = gameState.getGameUno();
+        for (int i = 0; i < moves && game.isGameOver() == GameStateEnum.GAME_ONGOING; i++) {
+            TurnEnum turn = game.getTurn();
+            Player player = turn == TurnEnum.PLAYER ? gameState.getHumanPlayer() : gameState.getMachinePlayer();
+            Player other = turn == TurnEnum.PLAYER ? gameState.getMachinePlayer() : gameState.getHumanPlayer();
+            long playableCards = game.getPlayableCards(player);
+            if (playableCards == 0) {
+                game.tryCommitMove(game.getMoveNumber(), turn, true);
+                game.drawCards(player, 1);
+            } else {
+                Card card = player.getCardsPlayer().getById(Long.numberOfTrailingZeros(playableCards));
+                game.tryCommitMove(game.getMoveNumber(), turn, card.getEffectKind().passesTurn());
+                CardColor color = card.getValue().isWild()
+                        ? CardColor.choosable(random.nextInt(CardColor.choosableCount()))
+                        : null;
+                game.applyCardEffect(card, other, color);
+                game.playCard(card);
+                player.removeCard(card);
+                if (player.getCardsPlayer().size() == 1) {
+                    game.notifyUnoCalled(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that two games are in the same state: same hands in the same order, same
+     * deck, same cards on the table, same color, turn and move number.
+     *
+     * @param expected the game the other one should match
+     * @param actual   the game to check
+     */
+    public static void assertSameGame(GameState expected, GameState actual) {
+        assertEquals(handIds(expected.getHumanPlayer().getCardsPlayer()),
+                handIds(actual.getHumanPlayer().getCardsPlayer()), "human hand");
+        assertEquals(handIds(expected.getMachinePlayer().getCardsPlayer()),
+                handIds(actual.getMachinePlayer().getCardsPlayer()), "machine hand");
+        assertArrayEquals(deckIds(expected.getDeck()), deckIds(actual.getDeck()), "deck");
+        assertEquals(expected.getTable().getCurrentCardId(), actual.getTable().getCurrentCardId(), "top card");
+        assertEquals(expected.getTable().getCardMask(), actual.getTable().getCardMask(), "table cards");
+        assertEquals(expected.getTable().size(), actual.getTable().size(), "table size");
+
+        GameUno expectedGame = expected.getGameUno();
+        GameUno actualGame = actual.getGameUno();
+        assertEquals(expectedGame.getCurrentColor(), actualGame.getCurrentColor(), "color");
+        assertEquals(expectedGame.getTurn(), actualGame.getTurn(), "turn");
+        assertEquals(expectedGame.getMoveNumber(), actualGame.getMoveNumber(), "move number");
+    }
+
+    /**
+     * Returns the ids of a hand, in hand order.
+     *
+     * @param hand the hand
+     * @return its card ids
+     */
+    public static List<Integer> handIds(Hand hand) {
+        List<Integer> ids = new ArrayList<>(hand.size());
+        for (int id = hand.firstId(); id != CardId.NONE; id = hand.nextId(id)) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of a deck, bottom to top.
+     *
+     * @param deck the deck
+     * @return its card ids
+     */
+    public static byte[] deckIds(Deck deck) {
+        byte[] ids = new byte[CardId.COUNT];
+        return Arrays.copyOf(ids, deck.copyCardIds(ids));
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.eiscuno.model.gameState;
+
+import org.example.eiscuno.model.Serializable.GameStateCodec;
+import org.example.eiscuno.model.game.DeckEmptyPolicyEnum;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the {@link MoveJournal} replay, against the live game that wrote the journal.
+ */
+class MoveJournalTest {
+    /** Type byte of a draw record. */
+    private static final byte DRAW = 2;
+    /** Type byte of a recycle record. */
+    private static final byte RECYCLE = 6;
+    /** Bytes of a draw record: type, length, seat, count and check. */
+    private static final int DRAW_RECORD = 5;
+
+    /** The game being recorded. */
+    private GameState live;
+    /** The journal recording {@link #live}. */
+    private MoveJournal journal;
+    /** The journal file written so far. */
+    private final ByteArrayOutputStream file = new ByteArrayOutputStream();
+
+    /**
+     * Deals a game, starts its journal and plays a few moves into it.
+     *
+     * @param policy what the game does when the deck runs out
+     */
+    private void startGame(DeckEmptyPolicyEnum policy) {
+        live = GameFixture.newGame(11L, policy);
+        journal = new MoveJournal();
+        live.getGameUno().setMoveListener(journal);
+        file.writeBytes(journal.startSegment(live));
+        GameFixture.playMoves(live, 40, new Random(11L));
+        file.writeBytes(journal.takeRecords());
+    }
+
+    /**
+     * Returns a copy of the live game as it is now.
+     *
+     * @return the copy
+     */
+    private GameState copyOfLive() {
+        return GameStateCodec.decode(GameStateCodec.encode(live));
+    }
+
+    /**
+     * Makes the human player draw one card, which the journal records as a single draw
+     * record, and returns that record.
+     *
+     * @return the draw record
+     */
+    private byte[] drawOneCard() {
+        assertTrue(live.getDeck().size() > 0, "the deck must not be empty");
+        live.getGameUno().drawCards(live.getHumanPlayer(), 1);
+        byte[] record = journal.takeRecords();
+        assertEquals(DRAW_RECORD, record.length);
+        assertEquals(DRAW, record[0]);
+        return record;
+    }
+
+    @Test
+    void replayRebuildsTheLiveGame() {
+        startGame(DeckEmptyPolicyEnum.END_GAME);
+        file.writeBytes(drawOneCard());
+
+        GameFixture.assertSameGame(live, MoveJournal.replay(file.toByteArray()));
+    }
+
+    @Test
+    void replayDropsATruncatedFinalRecord() {
+        startGame(DeckEmptyPolicyEnum.END_GAME);
+        GameState beforeDraw = copyOfLive();
+        byte[] record = drawOneCard();
+        file.write(record, 0, record.length - 1);
+
+        GameFixture.assertSameGame(beforeDraw, MoveJournal.replay(file.toByteArray()));
+    }
+
+    @Test
+    void replayDropsAFinalRecordWithAFailingCheck() {
+        startGame(DeckEmptyPolicyEnum.END_GAME);
+        GameState beforeDraw = copyOfLive();
+        byte[] record = drawOneCard();
+        record[record.length - 1] ^= 1;
+        file.writeBytes(record);
+
+        GameFixture.assertSameGame(beforeDraw, MoveJournal.replay(file.toByteArray()));
+    }
+
+    @Test
+    void replayAppliesARecycleBetweenTwoDraws() {
+        startGame(DeckEmptyPolicyEnum.RESHUFFLE_DISCARDS);
+        GameUno game = live.getGameUno();
+        assertTrue(live.getTable().size() >= 2, "the table must have cards to recycle");
+
+        Player player = live.getHumanPlayer();
+        int wanted = live.getDeck().size() + 1;
+        assertEquals(wanted, game.drawCards(player, wanted));
+        byte[] records = journal.takeRecords();
+        int recycle = DRAW_RECORD;
+        int secondDraw = recycle + 3 + Byte.toUnsignedInt(records[recycle + 1]);
+        assertEquals(DRAW, records[0]);
+        assertEquals(RECYCLE, records[recycle]);
+        assertEquals(DRAW, records[secondDraw]);
+        assertEquals(records.length, secondDraw + DRAW_RECORD);
+        file.writeBytes(records);
+
+        GameFixture.assertSameGame(live, MoveJournal.replay(file.toByteArray()));
+
+        GameFixture.playMoves(live, 20, new Random(12L));
+        file.writeBytes(journal.takeRecords());
+        GameFixture.assertSameGame(live, MoveJournal.replay(file.toByteArray()));
+    }
+}